@@ -0,0 +1,82 @@
+package br.com.projeto.spring.cache;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.projeto.spring.service.LaboratorioService;
+
+/**
+ * Compara a chave em String (implementação anterior do {@link CustomKeyGenerator}) com
+ * {@link CacheKey}, na geração e na consulta a um cache equivalente ao {@code laboratorioPages}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheKeyBenchmark {
+
+    private Method method;
+    private Pageable pageable;
+    private CaffeineCache cacheString;
+    private CaffeineCache cacheKey;
+
+    @Setup
+    public void setup() throws Exception {
+        method = LaboratorioService.class.getMethod("listarLaboratorios", Pageable.class);
+        pageable = PageRequest.of(3, 20, Sort.by(Sort.Direction.ASC, "nome"));
+
+        cacheString = new CaffeineCache("laboratorioPages", Caffeine.newBuilder().maximumSize(500).build());
+        cacheKey = new CaffeineCache("laboratorioPages", Caffeine.newBuilder().maximumSize(500).build());
+
+        // Popula páginas vizinhas para que a consulta não ocorra em um cache com uma única entrada
+        for (int page = 0; page < 50; page++) {
+            Pageable p = PageRequest.of(page, 20, Sort.by(Sort.Direction.ASC, "nome"));
+            cacheString.put(chaveString(method, p), page);
+            cacheKey.put(CacheKey.of(method, p), page);
+        }
+    }
+
+    @Benchmark
+    public Object gerarChaveString() {
+        return chaveString(method, pageable);
+    }
+
+    @Benchmark
+    public Object gerarCacheKey() {
+        return CacheKey.of(method, pageable);
+    }
+
+    @Benchmark
+    public Object consultarChaveString() {
+        return cacheString.get(chaveString(method, pageable));
+    }
+
+    @Benchmark
+    public Object consultarCacheKey() {
+        return cacheKey.get(CacheKey.of(method, pageable));
+    }
+
+    private static String chaveString(Method method, Object... params) {
+        return method.getName() + ":" + Arrays.deepToString(params);
+    }
+}
@@ -0,0 +1,170 @@
+package br.com.projeto.spring.repository;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.support.ResourcePropertySource;
+
+import br.com.projeto.spring.domain.model.BaseEntity;
+import br.com.projeto.spring.domain.model.Laboratorio;
+import br.com.projeto.spring.domain.model.Remedio;
+import br.com.projeto.spring.domain.model.Via;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Remédios inseridos por segundo no PostgreSQL pelo caminho real da aplicação: as entidades e o
+ * mapeamento de IDs do código, um {@link SessionFactory} com as propriedades
+ * {@code spring.jpa.properties.hibernate.*} e {@code spring.datasource.hikari.data-source-properties.*}
+ * do {@code application.properties}, e cada lote de {@value #LINHAS} remédios em uma transação.
+ * <ul>
+ * <li>{@code porEntidade}: {@code persist} de cada entidade, como o {@code saveAll} usado antes de
+ * {@link PersistenciaEmLote};</li>
+ * <li>{@code emLote}: {@link PersistenciaEmLote#inserir}.</li>
+ * </ul>
+ * Requer um PostgreSQL com o schema da aplicação (changelog Liquibase aplicado) e ao menos um
+ * laboratório: {@code BENCHMARK_DATASOURCE_URL}, {@code BENCHMARK_DATASOURCE_USERNAME} e
+ * {@code BENCHMARK_DATASOURCE_PASSWORD}. Os remédios inseridos (lote {@code BENCH-*}) são excluídos
+ * ao fim de cada iteração. O resultado (ops/s) já está em linhas por segundo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class PersistenciaEmLoteBenchmark {
+
+    private static final int LINHAS = 1_000;
+    private static final String PREFIXO_LOTE = "BENCH-";
+
+    private SessionFactory sessionFactory;
+    private int tamanhoLote;
+    private Long laboratorioId;
+
+    @Setup
+    public void setup() throws IOException {
+        String url = System.getenv("BENCHMARK_DATASOURCE_URL");
+
+        if (url == null) {
+            throw new IllegalStateException("Defina BENCHMARK_DATASOURCE_URL para executar este benchmark");
+        }
+
+        StandardEnvironment ambiente = new StandardEnvironment();
+        ResourcePropertySource propriedades = new ResourcePropertySource("classpath:application.properties");
+        ambiente.getPropertySources().addLast(propriedades);
+
+        Configuration configuracao = new Configuration().addAnnotatedClass(BaseEntity.class)
+                .addAnnotatedClass(Laboratorio.class).addAnnotatedClass(Remedio.class);
+
+        // Mesmas propriedades do Hibernate e do driver usadas pela aplicação
+        for (String nome : propriedades.getPropertyNames()) {
+            if (nome.startsWith("spring.jpa.properties.")) {
+                configuracao.setProperty(nome.substring("spring.jpa.properties.".length()), ambiente.getProperty(nome));
+            } else if (nome.startsWith("spring.datasource.hikari.data-source-properties.")) {
+                configuracao.setProperty("hibernate.connection."
+                        + nome.substring("spring.datasource.hikari.data-source-properties.".length()),
+                        ambiente.getProperty(nome));
+            }
+        }
+
+        String nomeacao = ambiente.getProperty("spring.jpa.hibernate.naming.physical-strategy");
+
+        if (nomeacao != null) {
+            configuracao.setProperty("hibernate.physical_naming_strategy", nomeacao);
+        }
+
+        configuracao.setProperty("hibernate.connection.url", url);
+        configuracao.setProperty("hibernate.connection.username",
+                System.getenv().getOrDefault("BENCHMARK_DATASOURCE_USERNAME", ""));
+        configuracao.setProperty("hibernate.connection.password",
+                System.getenv().getOrDefault("BENCHMARK_DATASOURCE_PASSWORD", ""));
+        configuracao.setProperty("hibernate.connection.pool_size", "1");
+
+        sessionFactory = configuracao.buildSessionFactory();
+        tamanhoLote = sessionFactory.getSessionFactoryOptions().getJdbcBatchSize();
+
+        laboratorioId = sessionFactory.fromSession(session -> session
+                .createSelectionQuery("select min(l.id) from Laboratorio l", Long.class).getSingleResult());
+
+        if (laboratorioId == null) {
+            throw new IllegalStateException("O benchmark requer ao menos um laboratório cadastrado");
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void limpar() {
+        sessionFactory.inTransaction(session -> session
+                .createMutationQuery("delete from Remedio r where r.lote like :prefixo")
+                .setParameter("prefixo", PREFIXO_LOTE + "%").executeUpdate());
+    }
+
+    @TearDown
+    public void encerrar() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS)
+    public long porEntidade() {
+        return sessionFactory.fromTransaction(session -> {
+            List<Remedio> remedios = remedios(session);
+            remedios.forEach(session::persist);
+            session.flush();
+
+            return remedios.get(LINHAS - 1).getId();
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS)
+    public long emLote() {
+        return sessionFactory.fromTransaction(session -> {
+            List<Remedio> remedios = remedios(session);
+            new PersistenciaEmLote(session, tamanhoLote).inserir(remedios);
+
+            return remedios.get(LINHAS - 1).getId();
+        });
+    }
+
+    // Auditoria feita pelo Spring Data na aplicação; aqui as datas são preenchidas diretamente
+    private List<Remedio> remedios(EntityManager entityManager) {
+        Laboratorio laboratorio = entityManager.getReference(Laboratorio.class, laboratorioId);
+        LocalDateTime agora = LocalDateTime.now();
+        List<Remedio> remedios = new ArrayList<>(LINHAS);
+
+        for (int i = 0; i < LINHAS; i++) {
+            Remedio remedio = new Remedio();
+            remedio.setNome("Remédio " + i);
+            remedio.setVia(Via.ORAL);
+            remedio.setLote(PREFIXO_LOTE + i);
+            remedio.setQuantidade(i % 100);
+            remedio.setValidade(LocalDate.now().plusYears(1));
+            remedio.setLaboratorio(laboratorio);
+            remedio.setCreatedAt(agora);
+            remedio.setUpdatedAt(agora);
+            remedios.add(remedio);
+        }
+
+        return remedios;
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.projeto.spring.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara o HMAC do refresh token com Mac criado a cada chamada (implementação anterior) e com o
+ * engine pré-inicializado por thread de {@link UtilToken}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UtilTokenBenchmark {
+
+    private static final String PEPPER = "pepper-de-benchmark-com-tamanho-razoavel-para-hmac-sha512";
+
+    private UtilToken utilToken;
+    private String rawToken;
+
+    @Setup
+    public void setup() {
+        utilToken = new UtilToken(PEPPER);
+        rawToken = utilToken.generateRawToken();
+    }
+
+    @Benchmark
+    public String macPorChamada() throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA512");
+        SecretKeySpec keySpec = new SecretKeySpec(PEPPER.getBytes(StandardCharsets.UTF_8), "HmacSHA512");
+
+        mac.init(keySpec);
+        byte[] result = mac.doFinal(rawToken.getBytes(StandardCharsets.UTF_8));
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(result);
+    }
+
+    @Benchmark
+    public String macReutilizado() {
+        return utilToken.hmacSha512Base64(rawToken);
+    }
+}
@@ -0,0 +1,184 @@
+package br.com.projeto.spring.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.projeto.spring.config.CacheProperties;
+
+/**
+ * Contadores de geração por escopo de invalidação. As chaves das listagens em cache incluem a
+ * geração dos escopos de que dependem; incrementar um escopo torna inalcançáveis apenas as entradas
+ * que dependem dele, que saem do cache por tamanho ou TTL, sem descartar as demais.
+ * <p>
+ * Todas as gerações vêm de um único relógio monotônico, por isso a maior das gerações de vários
+ * escopos muda sempre que qualquer um deles é incrementado e pode ser usada como geração única da
+ * chave.
+ * <p>
+ * Os escopos por entidade ({@code remedio:{id}}, {@code laboratorio:{id}},
+ * {@code laboratorio:{id}:remedios}) expiram depois
+ * de um período sem incremento, que precisa ser maior que o maior TTL dos caches dependentes: um
+ * escopo expirado volta à geração 0, e até lá as entradas criadas antes do último incremento já
+ * expiraram (elas não são lidas e, portanto, não são recarregadas). Por isso não há limite de
+ * tamanho, que descartaria escopos antes desse prazo.
+ */
+@Component
+public class CacheGeracoes {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheGeracoes.class);
+
+    private static final Pattern EXPIRACAO_SPEC =
+            Pattern.compile("expireAfter(?:Write|Access)=(P\\S+?|\\d+[dhms])(?:,|$)");
+
+    /** Escopo da coleção de laboratórios (listagem paginada). */
+    public static final String LABORATORIOS = "laboratorios";
+
+    /** Escopo dos dados de laboratório exibidos nos remédios (resumo do laboratório). */
+    public static final String RESUMO_LABORATORIOS = "laboratorios:resumo";
+
+    /** Escopo da coleção de remédios (listagem paginada). */
+    public static final String REMEDIOS = "remedios";
+
+    /** Escopo da coleção de usuários (total da listagem paginada). */
+    public static final String USUARIOS = "usuarios";
+
+    private final AtomicLong relogio = new AtomicLong();
+    private final Cache<String, Long> geracoes;
+
+    public CacheGeracoes(
+
+            CacheProperties properties,
+
+            @Value("${app.cache.contagens.ttl:10m}")
+            Duration ttlContagens,
+
+            @Value("${app.cache.geracoes.expiracao:0s}")
+            Duration expiracao
+
+    ) {
+        Optional<Duration> maiorTtl = maiorTtl(properties, ttlContagens);
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+
+        if (maiorTtl.isEmpty()) {
+            log.warn("Há cache sem expiração; as gerações de cache não expiram");
+        } else if (expiracao.isZero()) {
+            builder.expireAfterWrite(maiorTtl.get().multipliedBy(2));
+        } else if (expiracao.compareTo(maiorTtl.get()) > 0) {
+            builder.expireAfterWrite(expiracao);
+        } else {
+            throw new IllegalArgumentException("app.cache.geracoes.expiracao (" + expiracao
+                    + ") deve ser maior que o maior TTL dos caches (" + maiorTtl.get() + ")");
+        }
+
+        this.geracoes = builder.build();
+    }
+
+    /**
+     * Escopo de um laboratório específico.
+     *
+     * @param laboratorioId ID do laboratório
+     * @return nome do escopo
+     */
+    public static String laboratorio(Long laboratorioId) {
+        return "laboratorio:" + laboratorioId;
+    }
+
+    /**
+     * Escopo das listagens de remédios de um laboratório.
+     *
+     * @param laboratorioId ID do laboratório
+     * @return nome do escopo
+     */
+    public static String remediosDoLaboratorio(Long laboratorioId) {
+        return "laboratorio:" + laboratorioId + ":remedios";
+    }
+
+    /**
+     * Escopo de um remédio específico.
+     *
+     * @param remedioId ID do remédio
+     * @return nome do escopo
+     */
+    public static String remedio(Long remedioId) {
+        return "remedio:" + remedioId;
+    }
+
+    public long geracao(String escopo) {
+        Long geracao = geracoes.getIfPresent(escopo);
+        return geracao == null ? 0L : geracao;
+    }
+
+    public void incrementar(String escopo) {
+        geracoes.put(escopo, relogio.incrementAndGet());
+    }
+
+    /**
+     * Geração combinada dos escopos dos quais as entradas de um cache dependem.
+     *
+     * @param cacheName nome do cache
+     * @param params parâmetros do método em cache
+     * @return geração da chave, 0 para caches sem escopo
+     */
+    public long geracaoDaChave(String cacheName, Object[] params) {
+        return switch (cacheName) {
+            case "laboratorio" -> geracao(laboratorio((Long) params[0]));
+            case "laboratorioPages" -> geracao(LABORATORIOS);
+            case "laboratorioRemedios" -> geracao(remediosDoLaboratorio((Long) params[0]));
+            case "remedio" -> Math.max(geracao(remedio((Long) params[0])), geracao(RESUMO_LABORATORIOS));
+            case "remedioPages" -> Math.max(geracao(REMEDIOS), geracao(RESUMO_LABORATORIOS));
+            default -> 0L;
+        };
+    }
+
+    // Maior expiração entre as especificações dos caches e o TTL das contagens; vazio se algum cache
+    // não expira
+    static Optional<Duration> maiorTtl(CacheProperties properties, Duration ttlContagens) {
+        List<String> specs = new ArrayList<>(properties.getCaches().values());
+        specs.add(properties.getDefaultSpec());
+
+        Duration maior = ttlContagens;
+
+        for (String spec : specs) {
+            Matcher matcher = EXPIRACAO_SPEC.matcher(spec.replace(" ", ""));
+
+            if (!matcher.find()) {
+                return Optional.empty();
+            }
+
+            do {
+                Duration ttl = duracao(matcher.group(1));
+                maior = ttl.compareTo(maior) > 0 ? ttl : maior;
+            } while (matcher.find());
+        }
+
+        return Optional.of(maior);
+    }
+
+    // Mesmo formato das especificações do Caffeine: inteiro seguido de d, h, m ou s, ou ISO-8601
+    private static Duration duracao(String valor) {
+        if (valor.startsWith("P")) {
+            return Duration.parse(valor);
+        }
+
+        long quantidade = Long.parseLong(valor.substring(0, valor.length() - 1));
+
+        return switch (valor.charAt(valor.length() - 1)) {
+            case 'd' -> Duration.ofDays(quantidade);
+            case 'h' -> Duration.ofHours(quantidade);
+            case 'm' -> Duration.ofMinutes(quantidade);
+            default -> Duration.ofSeconds(quantidade);
+        };
+    }
+}
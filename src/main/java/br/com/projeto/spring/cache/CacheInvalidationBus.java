@@ -0,0 +1,421 @@
+package br.com.projeto.spring.cache;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Barramento de invalidação de cache entre nós via PostgreSQL LISTEN/NOTIFY.
+ * <p>
+ * As invalidações de uma transação são agrupadas e enviadas em um único {@code pg_notify} antes do
+ * commit, na mesma conexão; o PostgreSQL só entrega a notificação se a transação for confirmada.
+ * Cada mensagem leva o id do nó e uma sequência por nó. O recebimento ocorre em uma thread dedicada
+ * com conexão própria: uma lacuna na sequência que não se resolve dentro do período de tolerância
+ * (mensagens de transações concorrentes podem chegar fora de ordem), uma reconexão ou uma mensagem
+ * grande demais para o NOTIFY resultam na limpeza completa dos caches locais e das contagens.
+ * <p>
+ * A conexão de recebimento usa a mesma URL, credenciais e propriedades de driver do datasource
+ * (SSL etc.), com {@code tcpKeepAlive} e {@code socketTimeout}. Como uma conexão semiaberta não gera
+ * erro na espera por notificações, um {@code SELECT 1} a cada ciclo confirma que ela continua viva e,
+ * se não responder dentro do {@code socketTimeout}, força a reconexão.
+ */
+@Component
+public class CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    static final String CANAL = "cache_invalidation";
+
+    // O limite do payload do NOTIFY é de 8000 bytes
+    private static final int LIMITE_PAYLOAD = 7_900;
+
+    private static final int LACUNA_MAXIMA = 1_000;
+    private static final Duration NO_INATIVO = Duration.ofHours(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationListener aplicador;
+    private final CacheManager cacheManager;
+    private final ContagemCache contagens;
+
+    private final boolean habilitado;
+    private final String url;
+    private final Properties propriedadesConexao;
+    private final Duration tolerancia;
+    private final Duration intervaloReconexao;
+
+    private final String noId = UUID.randomUUID().toString();
+    private final AtomicLong sequencia = new AtomicLong();
+
+    // Acessado apenas pela thread de recebimento
+    private final Map<String, EstadoNo> nos = new HashMap<>();
+
+    private volatile boolean executando;
+    private Thread thread;
+
+    public CacheInvalidationBus(
+
+            JdbcTemplate jdbcTemplate,
+
+            ObjectMapper objectMapper,
+
+            CacheInvalidationListener aplicador,
+
+            CacheManager cacheManager,
+
+            ContagemCache contagens,
+
+            DataSourceProperties dataSourceProperties,
+
+            DataSource dataSource,
+
+            @Value("${app.cache.cluster.enabled:false}")
+            boolean habilitado,
+
+            @Value("${app.cache.cluster.tolerancia-lacuna:5s}")
+            Duration tolerancia,
+
+            @Value("${app.cache.cluster.intervalo-reconexao:5s}")
+            Duration intervaloReconexao,
+
+            @Value("${app.cache.cluster.socket-timeout:10s}")
+            Duration socketTimeout
+
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.aplicador = aplicador;
+        this.cacheManager = cacheManager;
+        this.contagens = contagens;
+        this.habilitado = habilitado;
+        this.tolerancia = tolerancia;
+        this.intervaloReconexao = intervaloReconexao;
+
+        this.url = dataSourceProperties.determineUrl();
+        this.propriedadesConexao =
+                propriedadesConexao(dataSourceProperties, dataSource, socketTimeout.plus(tolerancia));
+    }
+
+    // Propriedades de driver do pool (spring.datasource.hikari.data-source-properties), credenciais
+    // e os timeouts da conexão de recebimento. O socketTimeout cobre a espera por notificações
+    private static Properties propriedadesConexao(DataSourceProperties dataSourceProperties, DataSource dataSource,
+            Duration socketTimeout) {
+
+        Properties propriedades = new Properties();
+
+        if (dataSource instanceof HikariDataSource hikari) {
+            propriedades.putAll(hikari.getDataSourceProperties());
+        }
+
+        String usuario = dataSourceProperties.determineUsername();
+        String senha = dataSourceProperties.determinePassword();
+
+        if (usuario != null) {
+            propriedades.setProperty("user", usuario);
+        }
+
+        if (senha != null) {
+            propriedades.setProperty("password", senha);
+        }
+
+        propriedades.setProperty("tcpKeepAlive", "true");
+        propriedades.setProperty("socketTimeout", String.valueOf(Math.max(1, socketTimeout.toSeconds())));
+
+        return propriedades;
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        if (!habilitado) {
+            return;
+        }
+
+        executando = true;
+        thread = new Thread(this::receber, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executando = false;
+
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Envia a invalidação aos demais nós. Dentro de uma transação, as invalidações são acumuladas e
+     * enviadas em uma única notificação antes do commit.
+     *
+     * @param event invalidação confirmada localmente após o commit
+     */
+    public void publicar(CacheInvalidationEvent event) {
+        if (!habilitado) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Lote lote = new Lote();
+            lote.adicionar(event);
+            notificar(lote);
+            return;
+        }
+
+        Lote lote = (Lote) TransactionSynchronizationManager.getResource(this);
+
+        if (lote == null) {
+            Lote novo = new Lote();
+            lote = novo;
+
+            TransactionSynchronizationManager.bindResource(this, novo);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    notificar(novo);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBus.this);
+                }
+            });
+        }
+
+        lote.adicionar(event);
+    }
+
+    private void notificar(Lote lote) {
+        Map<String, Object> mensagem = new LinkedHashMap<>();
+        mensagem.put("no", noId);
+        mensagem.put("seq", sequencia.incrementAndGet());
+        mensagem.put("escopos", lote.escopos);
+        mensagem.put("chaves", lote.chaves);
+
+        String payload;
+
+        try {
+            payload = objectMapper.writeValueAsString(mensagem);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+
+        if (payload.length() > LIMITE_PAYLOAD) {
+            payload = String.format("{\"no\":\"%s\",\"seq\":%d,\"flush\":true}", noId, mensagem.get("seq"));
+        }
+
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (RowCallbackHandler) rs -> {}, CANAL, payload);
+    }
+
+    private void receber() {
+        boolean primeiraConexao = true;
+
+        while (executando) {
+            try (Connection conexao = DriverManager.getConnection(url, propriedadesConexao);
+                    Statement statement = conexao.createStatement()) {
+
+                statement.execute("LISTEN " + CANAL);
+
+                nos.clear();
+
+                // Mensagens enviadas enquanto o nó estava desconectado foram perdidas
+                if (!primeiraConexao) {
+                    limparTudo("reconexão ao barramento de invalidação");
+                }
+
+                primeiraConexao = false;
+                PGConnection pg = conexao.unwrap(PGConnection.class);
+
+                while (executando) {
+                    PGNotification[] notificacoes = pg.getNotifications((int) tolerancia.toMillis());
+
+                    if (notificacoes != null) {
+                        for (PGNotification notificacao : notificacoes) {
+                            processar(notificacao.getParameter());
+                        }
+                    }
+
+                    verificarLacunas();
+
+                    // Em uma conexão semiaberta getNotifications apenas não retorna nada: a consulta
+                    // falha por socketTimeout e força a reconexão
+                    statement.execute("SELECT 1");
+                }
+            } catch (SQLException e) {
+                if (executando) {
+                    log.warn("Conexão do barramento de invalidação perdida, reconectando em {}", intervaloReconexao, e);
+                    aguardar(intervaloReconexao);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Falha no barramento de invalidação de cache", e);
+                aguardar(intervaloReconexao);
+            }
+        }
+    }
+
+    private void processar(String payload) {
+        Mensagem mensagem;
+
+        try {
+            mensagem = objectMapper.readValue(payload, Mensagem.class);
+        } catch (JsonProcessingException e) {
+            limparTudo("mensagem de invalidação inválida");
+            return;
+        }
+
+        if (noId.equals(mensagem.no())) {
+            return;
+        }
+
+        EstadoNo estado = nos.get(mensagem.no());
+
+        if (estado == null) {
+            nos.put(mensagem.no(), new EstadoNo(mensagem.seq()));
+        } else if (!estado.registrar(mensagem.seq())) {
+            limparTudo("lacuna de " + (mensagem.seq() - estado.maiorSeq) + " mensagens do nó " + mensagem.no());
+            estado.reiniciar(mensagem.seq());
+        }
+
+        if (mensagem.flush()) {
+            limparTudo("invalidação grande demais para o NOTIFY");
+            return;
+        }
+
+        Map<String, Set<Object>> chaves = new HashMap<>();
+
+        if (mensagem.chaves() != null) {
+            mensagem.chaves().forEach((cache, ids) -> chaves.put(cache, new HashSet<>(ids)));
+        }
+
+        aplicador.aplicar(new CacheInvalidationEvent(mensagem.escopos() == null ? Set.of() : mensagem.escopos(),
+                chaves));
+    }
+
+    private void verificarLacunas() {
+        long agora = System.nanoTime();
+        Iterator<EstadoNo> iterator = nos.values().iterator();
+
+        while (iterator.hasNext()) {
+            EstadoNo estado = iterator.next();
+
+            if (estado.possuiLacunaExpirada(agora - tolerancia.toNanos())) {
+                limparTudo("mensagens perdidas do barramento de invalidação");
+                estado.faltantes.clear();
+            }
+
+            if (agora - estado.ultimaMensagem > NO_INATIVO.toNanos()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void limparTudo(String motivo) {
+        log.warn("Limpando todos os caches locais: {}", motivo);
+        cacheManager.getCacheNames().forEach(nome -> cacheManager.getCache(nome).clear());
+        contagens.limpar();
+    }
+
+    private static void aguardar(Duration intervalo) {
+        try {
+            Thread.sleep(intervalo.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Invalidações acumuladas em uma transação. */
+    private static final class Lote {
+
+        private final Set<String> escopos = new HashSet<>();
+        private final Map<String, Set<Object>> chaves = new HashMap<>();
+
+        void adicionar(CacheInvalidationEvent event) {
+            escopos.addAll(event.escopos());
+            event.chaves().forEach((cache, valores) -> chaves.computeIfAbsent(cache, c -> new HashSet<>())
+                    .addAll(valores));
+        }
+    }
+
+    /**
+     * Mensagem recebida de outro nó. As chaves removidas diretamente são IDs numéricos (caches por
+     * ID).
+     */
+    record Mensagem(String no, long seq, Set<String> escopos, Map<String, Set<Long>> chaves, boolean flush) {}
+
+    /** Sequências recebidas de um nó, com as lacunas ainda pendentes e o instante em que surgiram. */
+    static final class EstadoNo {
+
+        private long maiorSeq;
+        private long ultimaMensagem = System.nanoTime();
+        private final TreeMap<Long, Long> faltantes = new TreeMap<>();
+
+        EstadoNo(long seq) {
+            this.maiorSeq = seq;
+        }
+
+        /** @return {@code false} se a lacuna for grande demais para ser acompanhada */
+        boolean registrar(long seq) {
+            ultimaMensagem = System.nanoTime();
+
+            if (seq <= maiorSeq) {
+                faltantes.remove(seq);
+                return true;
+            }
+
+            if (seq - maiorSeq > LACUNA_MAXIMA) {
+                return false;
+            }
+
+            for (long s = maiorSeq + 1; s < seq; s++) {
+                faltantes.put(s, ultimaMensagem);
+            }
+
+            maiorSeq = seq;
+            return true;
+        }
+
+        void reiniciar(long seq) {
+            maiorSeq = seq;
+            faltantes.clear();
+        }
+
+        boolean possuiLacunaExpirada(long limite) {
+            return faltantes.values().stream().anyMatch(instante -> instante < limite);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.projeto.spring.cache;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Invalidação de cache aplicada após o commit da transação que a publicou.
+ *
+ * @param escopos escopos de geração a incrementar
+ * @param chaves chaves a remover, por nome de cache
+ */
+public record CacheInvalidationEvent(Set<String> escopos, Map<String, Set<Object>> chaves) {}
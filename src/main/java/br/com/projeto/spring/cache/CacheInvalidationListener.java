@@ -0,0 +1,34 @@
+package br.com.projeto.spring.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Aplica as invalidações publicadas pelo {@link CacheInvalidator} após o commit. Transações
+ * revertidas não invalidam nada.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationListener {
+
+    private final CacheGeracoes geracoes;
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aplicar(CacheInvalidationEvent event) {
+        event.escopos().forEach(geracoes::incrementar);
+
+        event.chaves().forEach((cacheName, chaves) -> {
+            Cache cache = cacheManager.getCache(cacheName);
+
+            if (cache != null) {
+                chaves.forEach(cache::evict);
+            }
+        });
+    }
+}
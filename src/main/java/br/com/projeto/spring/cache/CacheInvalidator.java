@@ -0,0 +1,50 @@
+package br.com.projeto.spring.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Ponto de entrada dos serviços para invalidar caches. As invalidações são publicadas como
+ * {@link CacheInvalidationEvent} e só têm efeito após o commit (ou imediatamente, fora de
+ * transação), para que uma leitura concorrente não repopule o cache com o estado anterior. Com o
+ * barramento habilitado, também são enviadas aos demais nós pelo {@link CacheInvalidationBus}.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidator {
+
+    private final ApplicationEventPublisher publisher;
+    private final CacheInvalidationBus bus;
+
+    /**
+     * Incrementa a geração dos escopos informados.
+     *
+     * @param escopos escopos afetados
+     */
+    public void invalidar(String... escopos) {
+        publicar(new CacheInvalidationEvent(Set.copyOf(Arrays.asList(escopos)), Map.of()));
+    }
+
+    /**
+     * Incrementa a geração dos escopos e remove as chaves informadas de um cache.
+     *
+     * @param escopos escopos afetados
+     * @param cacheName cache das chaves
+     * @param chaves chaves a remover
+     */
+    public void invalidar(Collection<String> escopos, String cacheName, Collection<?> chaves) {
+        publicar(new CacheInvalidationEvent(Set.copyOf(escopos), Map.of(cacheName, Set.copyOf(chaves))));
+    }
+
+    private void publicar(CacheInvalidationEvent event) {
+        publisher.publishEvent(event);
+        bus.publicar(event);
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.projeto.spring.cache;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Chave composta e imutável de cache: identidade do método mais os parâmetros tipados. O hash é
+ * calculado uma única vez na criação e nenhuma String é montada, ao contrário da concatenação de
+ * {@code Arrays.deepToString}. Pageables são normalizados para {@link Pagina}, de forma que
+ * implementações diferentes da mesma página geram chaves iguais e a comparação não recria a lista
+ * de ordenação a cada chamada (como faz {@code Sort.equals}).
+ */
+public final class CacheKey {
+
+    private final Method method;
+    private final long geracao;
+    private final Object[] params;
+    private final int hash;
+
+    private CacheKey(Method method, long geracao, Object[] params) {
+        this.method = method;
+        this.geracao = geracao;
+        this.params = params;
+        this.hash = 31 * (31 * method.hashCode() + Long.hashCode(geracao)) + Arrays.deepHashCode(params);
+    }
+
+    public static CacheKey of(Method method, Object... params) {
+        return of(method, 0L, params);
+    }
+
+    /**
+     * @param method método em cache
+     * @param geracao geração dos escopos de invalidação dos quais a entrada depende
+     * @param params parâmetros do método
+     * @return chave composta
+     */
+    public static CacheKey of(Method method, long geracao, Object... params) {
+        Object[] copia = new Object[params.length];
+
+        for (int i = 0; i < params.length; i++) {
+            copia[i] = normalizar(params[i]);
+        }
+
+        return new CacheKey(method, geracao, copia);
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * @return parâmetros do método, com as páginas normalizadas convertidas de volta em
+     *         {@link Pageable}, para reexecutar o método na recarga da entrada
+     */
+    public Object[] argumentos() {
+        Object[] argumentos = params.clone();
+
+        for (int i = 0; i < argumentos.length; i++) {
+            if (argumentos[i] instanceof Pagina pagina) {
+                Sort sort = Sort.by(pagina.ordens());
+                argumentos[i] = pagina.pagina() < 0 ? Pageable.unpaged(sort)
+                        : PageRequest.of(pagina.pagina(), pagina.tamanho(), sort);
+            }
+        }
+
+        return argumentos;
+    }
+
+    private static Object normalizar(Object param) {
+        if (param instanceof Pageable pageable) {
+            return pageable.isPaged()
+                    ? new Pagina(pageable.getPageNumber(), pageable.getPageSize(), ordens(pageable.getSort()))
+                    : new Pagina(-1, -1, ordens(pageable.getSort()));
+        }
+
+        return param;
+    }
+
+    // Itera o Sort diretamente: Sort.toList() passa por uma Stream a cada chamada
+    private static List<Sort.Order> ordens(Sort sort) {
+        if (sort.isUnsorted()) {
+            return List.of();
+        }
+
+        // Nunca é alterada após a criação; ArrayList.equals entre ArrayLists não aloca iterador
+        List<Sort.Order> ordens = new ArrayList<>(2);
+        sort.forEach(ordens::add);
+
+        return ordens;
+    }
+
+    /** Forma normalizada de um {@link Pageable}; página e tamanho -1 representam unpaged. */
+    record Pagina(int pagina, int tamanho, List<Sort.Order> ordens) {}
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        return obj instanceof CacheKey other && hash == other.hash && geracao == other.geracao
+                && (method == other.method || method.equals(other.method))
+                && Arrays.deepEquals(params, other.params);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return method.getName() + "@" + geracao + Arrays.deepToString(params);
+    }
+}
@@ -0,0 +1,218 @@
+package br.com.projeto.spring.cache;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+import br.com.projeto.spring.config.CacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Recarrega em segundo plano as entradas dos caches configurados com {@code refreshAfterWrite}. A
+ * recarga reexecuta o método {@code @Cacheable} de origem diretamente no bean alvo, sem passar pelo
+ * proxy de cache, em uma transação somente leitura. Enquanto a recarga ocorre, as leituras recebem o
+ * valor atual.
+ * <p>
+ * Se a recarga falhar por indisponibilidade ou lentidão do banco e o cache estiver em
+ * {@code app.cache.stale-if-error}, o último valor continua sendo servido até o
+ * {@code expireAfterWrite} do cache, que limita a defasagem máxima. Nos demais casos a entrada é
+ * removida e a próxima leitura consulta o banco.
+ */
+@Component
+public class CacheRecarregador {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheRecarregador.class);
+
+    private final ApplicationContext context;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> staleIfError;
+    private final ExecutorService executor;
+
+    // Alvo sem proxy de cada tipo de bean e método de origem dos caches com chave simples
+    private final Map<Class<?>, Object> alvos = new ConcurrentHashMap<>();
+    private final Map<String, Optional<Origem>> origens = new ConcurrentHashMap<>();
+
+    private volatile TransactionTemplate transactionTemplate;
+
+    public CacheRecarregador(
+
+            ApplicationContext context,
+
+            MeterRegistry meterRegistry,
+
+            CacheProperties properties,
+
+            @Value("${app.cache.refresh.threads:2}")
+            int threads
+
+    ) {
+        this.context = context;
+        this.meterRegistry = meterRegistry;
+        this.staleIfError = Set.copyOf(properties.getStaleIfError());
+
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "cache-refresh-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    /** @return executor das recargas, separado do pool comum para não disputá-lo com as requisições */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @param cacheName nome do cache
+     * @return loader que apenas recarrega entradas existentes; os misses continuam sendo carregados
+     *         pela própria chamada {@code @Cacheable}
+     */
+    public CacheLoader<Object, Object> loader(String cacheName) {
+        boolean servirDefasado = staleIfError.contains(cacheName);
+
+        Counter defasados = Counter.builder("cache.refresh.falhas").tag("cache", cacheName)
+                .tag("resultado", "defasado").register(meterRegistry);
+        Counter removidos = Counter.builder("cache.refresh.falhas").tag("cache", cacheName)
+                .tag("resultado", "removido").register(meterRegistry);
+
+        return new CacheLoader<>() {
+            @Override
+            public Object load(Object key) {
+                return null;
+            }
+
+            @Override
+            public Object reload(Object key, Object oldValue) {
+                try {
+                    return recarregar(cacheName, key);
+                } catch (DataAccessException | TransactionException e) {
+                    if (!servirDefasado) {
+                        removidos.increment();
+                        log.warn("Falha ao recarregar {} do cache {}, entrada removida", key, cacheName, e);
+                        return null;
+                    }
+
+                    // A exceção mantém o valor e o instante de escrita atuais, preservando o limite
+                    defasados.increment();
+                    throw e;
+                } catch (RuntimeException e) {
+                    removidos.increment();
+                    log.debug("Entrada {} do cache {} removida na recarga: {}", key, cacheName, e.toString());
+                    return null;
+                }
+            }
+        };
+    }
+
+    private Object recarregar(String cacheName, Object key) {
+        Object alvo;
+        Method method;
+        Object[] argumentos;
+
+        if (key instanceof CacheKey cacheKey) {
+            method = cacheKey.getMethod();
+            alvo = alvo(method.getDeclaringClass());
+            argumentos = cacheKey.argumentos();
+        } else {
+            Origem origem = origens.computeIfAbsent(cacheName, this::resolverOrigem).orElseThrow(
+                    () -> new IllegalStateException("Nenhum método @Cacheable de um parâmetro para " + cacheName));
+
+            method = origem.method();
+            alvo = origem.alvo();
+            argumentos = new Object[] { key };
+        }
+
+        Object valor = transactionTemplate().execute(status -> invocar(alvo, method, argumentos));
+        return valor == null ? NullValue.INSTANCE : valor;
+    }
+
+    private static Object invocar(Object alvo, Method method, Object[] argumentos) {
+        try {
+            ReflectionUtils.makeAccessible(method);
+            return method.invoke(alvo, argumentos);
+        } catch (InvocationTargetException e) {
+            ReflectionUtils.rethrowRuntimeException(e.getTargetException());
+            return null;
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Object alvo(Class<?> tipo) {
+        return alvos.computeIfAbsent(tipo, t -> {
+            Object bean = context.getBean(t);
+            Object alvo;
+
+            while ((alvo = AopProxyUtils.getSingletonTarget(bean)) != null) {
+                bean = alvo;
+            }
+
+            return bean;
+        });
+    }
+
+    // Caches com chave simples (ex.: key = "#id") não carregam o método na chave
+    private Optional<Origem> resolverOrigem(String cacheName) {
+        for (Object bean : context.getBeansWithAnnotation(Service.class).values()) {
+            Class<?> tipo = ClassUtils.getUserClass(bean);
+
+            Optional<Method> method = Arrays.stream(tipo.getMethods()).filter(m -> m.getParameterCount() == 1)
+                    .filter(m -> {
+                        Cacheable cacheable = AnnotatedElementUtils.findMergedAnnotation(m, Cacheable.class);
+                        return cacheable != null && Arrays.asList(cacheable.cacheNames()).contains(cacheName);
+                    }).findFirst();
+
+            if (method.isPresent()) {
+                return Optional.of(new Origem(alvo(tipo), method.get()));
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private TransactionTemplate transactionTemplate() {
+        if (transactionTemplate == null) {
+            TransactionTemplate template = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            template.setReadOnly(true);
+            transactionTemplate = template;
+        }
+
+        return transactionTemplate;
+    }
+
+    private record Origem(Object alvo, Method method) {}
+}
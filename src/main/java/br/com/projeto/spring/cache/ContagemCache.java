@@ -0,0 +1,135 @@
+package br.com.projeto.spring.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import br.com.projeto.spring.repository.projection.VersaoListagem;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Totais das listagens paginadas, reutilizados entre páginas e requisições. A chave é o escopo de
+ * invalidação do filtro mais a sua geração em {@link CacheGeracoes}: inclusões e exclusões
+ * incrementam o escopo após o commit e a contagem seguinte é refeita.
+ * <p>
+ * Para tabelas inteiras, acima do limite configurado ({@code app.cache.contagens.estimativa-acima})
+ * o total vem da estimativa do planejador ({@code pg_class.reltuples}) em vez de um
+ * {@code count(*)}.
+ * <p>
+ * As versões das listagens (total e maior data de alteração), usadas nos ETags, seguem a mesma regra:
+ * a consulta só é refeita quando a geração de algum dos escopos muda.
+ */
+@Component
+public class ContagemCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ContagemCache.class);
+
+    // Estimativa mantida pelo autovacuum/ANALYZE; -1 enquanto a tabela não foi analisada
+    private static final String SQL_ESTIMATIVA = "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)";
+
+    private final CacheGeracoes geracoes;
+    private final JdbcTemplate jdbcTemplate;
+    private final long estimativaAcima;
+
+    private final Cache<Chave, Long> cache;
+    private final Cache<Chave, VersaoListagem> versoes;
+
+    public ContagemCache(
+
+            CacheGeracoes geracoes,
+
+            JdbcTemplate jdbcTemplate,
+
+            MeterRegistry meterRegistry,
+
+            @Value("${app.cache.contagens.maximum-size:1000}")
+            long tamanhoMaximo,
+
+            @Value("${app.cache.contagens.ttl:10m}")
+            Duration ttl,
+
+            @Value("${app.cache.contagens.estimativa-acima:0}")
+            long estimativaAcima
+
+    ) {
+        this.geracoes = geracoes;
+        this.jdbcTemplate = jdbcTemplate;
+        this.estimativaAcima = estimativaAcima;
+
+        this.cache = Caffeine.newBuilder().maximumSize(tamanhoMaximo).expireAfterWrite(ttl).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "contagens");
+
+        this.versoes = Caffeine.newBuilder().maximumSize(tamanhoMaximo).expireAfterWrite(ttl).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, versoes, "versoesListagem");
+    }
+
+    /**
+     * Total de registros de um filtro, contado apenas quando a geração do escopo muda.
+     *
+     * @param escopo escopo de invalidação que corresponde ao filtro
+     * @param contagem contagem exata
+     * @return total de registros
+     */
+    public long contar(String escopo, LongSupplier contagem) {
+        return cache.get(new Chave(escopo, geracoes.geracao(escopo)), chave -> contagem.getAsLong());
+    }
+
+    /**
+     * Total de registros de uma tabela inteira. Acima do limite configurado usa a estimativa do
+     * planejador.
+     *
+     * @param escopo escopo de invalidação da tabela
+     * @param tabela nome da tabela
+     * @param contagem contagem exata
+     * @return total de registros, possivelmente aproximado
+     */
+    public long contarTabela(String escopo, String tabela, LongSupplier contagem) {
+        return contar(escopo, () -> {
+            Long estimativa = estimativaAcima > 0 ? estimativa(tabela) : null;
+            return estimativa != null && estimativa >= estimativaAcima ? estimativa : contagem.getAsLong();
+        });
+    }
+
+    /**
+     * Versão de uma listagem, consultada apenas quando a geração de algum dos escopos muda. A geração
+     * combinada é a maior entre os escopos, como em {@link CacheGeracoes#geracaoDaChave}.
+     *
+     * @param consulta consulta da versão no banco
+     * @param escopos escopos de invalidação dos quais a listagem depende
+     * @return quantidade de registros e maior data de alteração
+     */
+    public VersaoListagem versao(Supplier<VersaoListagem> consulta, String... escopos) {
+        long geracao = Arrays.stream(escopos).mapToLong(geracoes::geracao).max().orElse(0L);
+        return versoes.get(new Chave(String.join("+", escopos), geracao), chave -> consulta.get());
+    }
+
+    /**
+     * Descarta todas as contagens e versões, por exemplo quando invalidações de outros nós foram perdidas.
+     */
+    public void limpar() {
+        cache.invalidateAll();
+        versoes.invalidateAll();
+    }
+
+    private Long estimativa(String tabela) {
+        try {
+            return jdbcTemplate.queryForObject(SQL_ESTIMATIVA, Long.class, tabela);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao estimar o tamanho da tabela {}", tabela, e);
+            return null;
+        }
+    }
+
+    private record Chave(String escopo, long geracao) {}
+}
@@ -1,15 +1,42 @@
 package br.com.projeto.spring.cache;
 
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.stereotype.Component;
 import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component("customKeyGenerator")
 public class CustomKeyGenerator implements KeyGenerator {
+
+    private static final String SEM_CACHE = "";
+
+    private final CacheGeracoes geracoes;
+
+    // Nome do cache declarado no @Cacheable de cada método, resolvido uma única vez
+    private final Map<Method, String> cacheNames = new ConcurrentHashMap<>();
+
+    public CustomKeyGenerator(CacheGeracoes geracoes) {
+        this.geracoes = geracoes;
+    }
+
     @Override
     public Object generate(Object target, Method method, Object... params) {
-        // Gera chave: nome do método + parâmetros serializados
-        return method.getName() + ":" + Arrays.deepToString(params);
+        // Gera chave: identidade do método + geração dos escopos do cache + parâmetros tipados
+        String cacheName = cacheNames.computeIfAbsent(method, m -> resolverCacheName(target, m));
+        long geracao = cacheName.isEmpty() ? 0L : geracoes.geracaoDaChave(cacheName, params);
+
+        return CacheKey.of(method, geracao, params);
+    }
+
+    private static String resolverCacheName(Object target, Method method) {
+        Method especifico = AopUtils.getMostSpecificMethod(method, AopProxyUtils.ultimateTargetClass(target));
+        Cacheable cacheable = AnnotatedElementUtils.findMergedAnnotation(especifico, Cacheable.class);
+
+        return cacheable != null && cacheable.cacheNames().length == 1 ? cacheable.cacheNames()[0] : SEM_CACHE;
     }
 }
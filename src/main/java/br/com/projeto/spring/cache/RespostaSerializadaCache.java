@@ -0,0 +1,162 @@
+package br.com.projeto.spring.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * JSON já serializado dos DTOs de resposta, indexado pela identidade do objeto. Um hit nos caches de
+ * DTO devolve sempre a mesma instância, de forma que as respostas seguintes reutilizam os bytes sem
+ * passar pelo Jackson. As chaves são referências fracas: quando uma invalidação dos caches de DTO
+ * substitui ou descarta a instância, os bytes correspondentes deixam de ser alcançáveis e nunca são
+ * servidos para o valor novo.
+ * <p>
+ * Só são memoizadas as instâncias reutilizadas pelos caches de DTO ({@link #registrarReutilizado},
+ * chamado pelo {@link SingleFlightCache}); os demais corpos (páginas por cursor, slices, erros) são
+ * serializados sem passar pelo cache. A variante gzip é gerada na primeira requisição que a aceita.
+ */
+@Component
+public class RespostaSerializadaCache {
+
+    // Instância registrada cujo JSON ainda não foi gerado
+    private static final Serializado PENDENTE = new Serializado(null, null);
+
+    private final ObjectMapper objectMapper;
+    private final boolean habilitado;
+    private final boolean gzip;
+    private final int tamanhoMinimoGzip;
+
+    private final Cache<Object, Serializado> cache;
+
+    public RespostaSerializadaCache(
+
+            ObjectMapper objectMapper,
+
+            MeterRegistry meterRegistry,
+
+            @Value("${app.cache.resposta.enabled:false}")
+            boolean habilitado,
+
+            @Value("${app.cache.resposta.gzip:true}")
+            boolean gzip,
+
+            @Value("${app.cache.resposta.gzip-min-size:2048}")
+            int tamanhoMinimoGzip,
+
+            @Value("${app.cache.resposta.max-bytes:67108864}")
+            long maximoBytes
+
+    ) {
+        this.objectMapper = objectMapper;
+        this.habilitado = habilitado;
+        this.gzip = gzip;
+        this.tamanhoMinimoGzip = tamanhoMinimoGzip;
+
+        this.cache = Caffeine.newBuilder().weakKeys().maximumWeight(maximoBytes)
+                .weigher((Object chave, Serializado valor) -> valor.tamanho()).recordStats().build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "respostaSerializada");
+    }
+
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    /**
+     * Marca uma instância devolvida novamente por um cache de DTO, cujo JSON passa a ser memoizado
+     * na próxima escrita.
+     *
+     * @param valor valor reutilizado do cache
+     */
+    public void registrarReutilizado(Object valor) {
+        if (habilitado && valor != null) {
+            cache.asMap().putIfAbsent(valor, PENDENTE);
+        }
+    }
+
+    /**
+     * @param body DTO de resposta
+     * @param comGzip se o cliente aceita gzip; a variante é gerada e memoizada na primeira vez
+     * @return JSON memoizado do objeto, ou {@code null} se ele não foi reutilizado por um cache de DTO
+     */
+    public Serializado memoizado(Object body, boolean comGzip) {
+        Serializado atual = cache.getIfPresent(body);
+
+        if (atual == null) {
+            return null;
+        }
+
+        if (atual.json() == null || (comGzip && atual.gzip() == null && comprimivel(atual.json()))) {
+            // O peso da entrada é recalculado na substituição
+            atual = cache.asMap().compute(body, (chave, valor) -> completar(chave, valor, comGzip));
+        }
+
+        return atual;
+    }
+
+    /**
+     * @param body DTO de resposta que não veio de um cache de DTO
+     * @return JSON do objeto, sem memoizar
+     */
+    public byte[] serializar(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param json JSON da resposta
+     * @return se a resposta possui variante gzip
+     */
+    public boolean comprimivel(byte[] json) {
+        return gzip && json.length >= tamanhoMinimoGzip;
+    }
+
+    private Serializado completar(Object body, Serializado valor, boolean comGzip) {
+        byte[] json = valor != null && valor.json() != null ? valor.json() : serializar(body);
+        byte[] comprimido = valor != null ? valor.gzip() : null;
+
+        if (comGzip && comprimido == null && comprimivel(json)) {
+            comprimido = comprimir(json);
+        }
+
+        return new Serializado(json, comprimido);
+    }
+
+    private static byte[] comprimir(byte[] json) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(json.length / 4);
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return saida.toByteArray();
+    }
+
+    /**
+     * JSON codificado e a variante gzip ({@code null} enquanto nenhum cliente a pediu ou quando não
+     * compensa comprimir).
+     */
+    public record Serializado(byte[] json, byte[] gzip) {
+
+        int tamanho() {
+            return (json == null ? 0 : json.length) + (gzip == null ? 0 : gzip.length);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package br.com.projeto.spring.cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.springframework.cache.Cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Decorador de cache que coalesce os misses simultâneos de uma mesma chave (single-flight): apenas
+ * uma thread executa o carregamento e as demais aguardam o mesmo resultado, até o timeout
+ * configurado. Após o timeout a thread carrega o valor por conta própria, de forma que um
+ * carregamento lento não bloqueia as requisições indefinidamente. Usado pelos métodos
+ * {@code @Cacheable(sync = true)}.
+ * <p>
+ * Os valores devolvidos novamente (hit ou espera por outro carregamento) são informados ao
+ * callback de reutilização, usado para memoizar o JSON apenas das respostas que se repetem.
+ */
+public class SingleFlightCache implements Cache {
+
+    private final Cache delegate;
+    private final Duration timeout;
+    private final ConcurrentMap<Object, CompletableFuture<Object>> emAndamento = new ConcurrentHashMap<>();
+    private final Consumer<Object> aoReutilizar;
+
+    private final Counter coalescidos;
+    private final Counter expirados;
+
+    public SingleFlightCache(Cache delegate, Duration timeout, MeterRegistry meterRegistry) {
+        this(delegate, timeout, meterRegistry, valor -> {});
+    }
+
+    public SingleFlightCache(Cache delegate, Duration timeout, MeterRegistry meterRegistry,
+            Consumer<Object> aoReutilizar) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.aoReutilizar = aoReutilizar;
+
+        this.coalescidos = Counter.builder("cache.singleflight").tag("cache", delegate.getName())
+                .tag("resultado", "coalescido").register(meterRegistry);
+        this.expirados = Counter.builder("cache.singleflight").tag("cache", delegate.getName())
+                .tag("resultado", "timeout").register(meterRegistry);
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper existente = delegate.get(key);
+
+        if (existente != null) {
+            return (T) reutilizado(existente.get());
+        }
+
+        CompletableFuture<Object> novo = new CompletableFuture<>();
+        CompletableFuture<Object> lider = emAndamento.putIfAbsent(key, novo);
+
+        if (lider == null) {
+            try {
+                return (T) carregar(key, valueLoader, novo);
+            } finally {
+                emAndamento.remove(key, novo);
+            }
+        }
+
+        coalescidos.increment();
+
+        try {
+            return (T) reutilizado(lider.get(timeout.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            expirados.increment();
+            return (T) carregar(key, valueLoader, new CompletableFuture<>());
+        } catch (ExecutionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private Object reutilizado(Object valor) {
+        aoReutilizar.accept(valor);
+        return valor;
+    }
+
+    private Object carregar(Object key, Callable<?> valueLoader, CompletableFuture<Object> resultado) {
+        try {
+            // Outra thread pode ter concluído o carregamento entre a consulta e o registro do líder
+            ValueWrapper existente = delegate.get(key);
+            Object valor = existente != null ? existente.get() : valueLoader.call();
+
+            if (existente == null) {
+                // Uma thread que desistiu de aguardar pode ter gravado um valor lido depois deste
+                ValueWrapper anterior = delegate.putIfAbsent(key, valor);
+                valor = anterior != null ? anterior.get() : valor;
+            }
+
+            resultado.complete(valor);
+            return valor;
+        } catch (Exception e) {
+            resultado.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } catch (Error e) {
+            // Sem isso as demais threads só seriam liberadas pelo timeout
+            resultado.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+}
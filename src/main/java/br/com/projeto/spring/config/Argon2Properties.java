@@ -0,0 +1,28 @@
+package br.com.projeto.spring.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Parâmetros de custo do Argon2. Os mínimos correspondem aos padrões do Spring Security 5.8 e são
+ * usados diretamente quando a calibração está desabilitada.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.security.argon2")
+public class Argon2Properties {
+
+    private boolean calibrar = true;
+    private Duration latenciaAlvo = Duration.ofMillis(100);
+    private int paralelismo = 1;
+    private int memoriaMinimaKb = 1 << 14;
+    private int memoriaMaximaKb = 1 << 16;
+    private int iteracoesMinimas = 2;
+    private int iteracoesMaximas = 10;
+}
@@ -0,0 +1,81 @@
+package br.com.projeto.spring.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+
+import br.com.projeto.spring.cache.CacheRecarregador;
+import br.com.projeto.spring.cache.RespostaSerializadaCache;
+import br.com.projeto.spring.cache.SingleFlightCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Configuração dos caches Caffeine. Cada cache usa a própria especificação de tamanho e TTL, e
+ * todos registram estatísticas, expostas pelo actuator em {@code cache.gets} (hit/miss). Os caches
+ * são decorados com {@link SingleFlightCache}, que coalesce os misses simultâneos dos métodos
+ * {@code @Cacheable(sync = true)} e informa os valores reutilizados ao
+ * {@link RespostaSerializadaCache}. Caches com {@code refreshAfterWrite} na especificação são
+ * recarregados em segundo plano pelo {@link CacheRecarregador}.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+
+            CacheProperties properties,
+
+            MeterRegistry meterRegistry,
+
+            CacheRecarregador recarregador,
+
+            RespostaSerializadaCache respostasSerializadas,
+
+            @Value("${app.cache.single-flight.timeout:5s}")
+            Duration singleFlightTimeout
+
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name,
+                    com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new SingleFlightCache(super.adaptCaffeineCache(name, cache), singleFlightTimeout,
+                        meterRegistry, respostasSerializadas::registrarReutilizado);
+            }
+        };
+
+        cacheManager.setCaffeineSpec(CaffeineSpec.parse(properties.getDefaultSpec() + ",recordStats"));
+
+        properties.getCaches().forEach((nome, spec) -> {
+            Caffeine<Object, Object> builder = Caffeine.from(spec).recordStats();
+
+            if (spec.contains("refreshAfterWrite")) {
+                cacheManager.registerCustomCache(nome,
+                        builder.executor(recarregador.getExecutor()).build(recarregador.loader(nome)));
+            } else {
+                cacheManager.registerCustomCache(nome, builder.build());
+            }
+        });
+
+        return cacheManager;
+    }
+
+    /** Mantém as métricas do Caffeine para os caches decorados. */
+    @Bean
+    public CacheMeterBinderProvider<SingleFlightCache> singleFlightCacheMeterBinderProvider() {
+        return (cache, tags) -> cache.getDelegate() instanceof CaffeineCache caffeine
+                ? new CaffeineCacheMetrics<>(caffeine.getNativeCache(), cache.getName(), tags)
+                : null;
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.projeto.spring.config;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Especificações Caffeine por cache ({@code app.cache.caches.<nome>}), com uma especificação padrão
+ * para caches não listados. Os caches em {@code app.cache.stale-if-error} continuam servindo o
+ * último valor quando a recarga ({@code refreshAfterWrite}) falha por erro de banco.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+
+    private String defaultSpec = "maximumSize=500,expireAfterWrite=300s";
+    private Map<String, String> caches = new LinkedHashMap<>();
+    private Set<String> staleIfError = new LinkedHashSet<>();
+}
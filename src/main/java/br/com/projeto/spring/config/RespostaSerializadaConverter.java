@@ -0,0 +1,165 @@
+package br.com.projeto.spring.config;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.UrlPathHelper;
+
+import br.com.projeto.spring.cache.RespostaSerializadaCache;
+import br.com.projeto.spring.cache.RespostaSerializadaCache.Serializado;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Escreve os DTOs de resposta das requisições GET nos caminhos configurados
+ * ({@code app.cache.resposta.paths}) a partir do JSON memoizado em {@link RespostaSerializadaCache},
+ * com a variante gzip quando o cliente a aceita. Corpos que não vieram de um cache de DTO são
+ * serializados diretamente, sem memoização. Registrado antes do conversor Jackson; os demais casos
+ * seguem para ele.
+ */
+public class RespostaSerializadaConverter extends AbstractHttpMessageConverter<Object> {
+
+    private static final String PACOTE_RESPOSTAS = "br.com.projeto.spring.domain.dto.response";
+
+    private final RespostaSerializadaCache cache;
+    private final List<String> paths;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public RespostaSerializadaConverter(RespostaSerializadaCache cache, List<String> paths) {
+        super(MediaType.APPLICATION_JSON);
+        this.cache = cache;
+        this.paths = List.copyOf(paths);
+    }
+
+    @Override
+    protected boolean supports(@NonNull
+    Class<?> clazz) {
+        return clazz.getPackageName().startsWith(PACOTE_RESPOSTAS);
+    }
+
+    @Override
+    public boolean canRead(@NonNull
+    Class<?> clazz, @Nullable
+    MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(@NonNull
+    Class<?> clazz, @Nullable
+    MediaType mediaType) {
+        if (!super.canWrite(clazz, mediaType)) {
+            return false;
+        }
+
+        HttpServletRequest request = requisicaoAtual();
+
+        if (request == null || !"GET".equals(request.getMethod())) {
+            return false;
+        }
+
+        String path = urlPathHelper.getPathWithinApplication(request);
+        return paths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected Object readInternal(@NonNull
+    Class<?> clazz, @NonNull
+    HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Conversor somente de escrita", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(@NonNull
+    Object body, @Nullable
+    MediaType contentType) {
+        // Definido em writeInternal, conforme a variante escrita
+        return null;
+    }
+
+    @Override
+    protected void writeInternal(@NonNull
+    Object body, @NonNull
+    HttpOutputMessage outputMessage) throws IOException {
+
+        HttpServletRequest request = requisicaoAtual();
+        boolean aceitaGzip = aceitaGzip(request == null ? null : request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        Serializado serializado = cache.memoizado(body, aceitaGzip);
+        HttpHeaders headers = outputMessage.getHeaders();
+        byte[] bytes = serializado != null ? serializado.json() : cache.serializar(body);
+
+        // Vary em toda resposta comprimível: a primeira (ainda não memoizada) também pode ser guardada por
+        // caches intermediários, e as seguintes podem sair em gzip
+        if (cache.comprimivel(bytes)) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+            if (aceitaGzip && serializado != null && serializado.gzip() != null) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+                bytes = serializado.gzip();
+            }
+        }
+
+        headers.setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+
+    /**
+     * @param aceitas cabeçalho {@code Accept-Encoding}
+     * @return se gzip é aceito, explicitamente ou por {@code *}, com qvalue maior que zero
+     */
+    static boolean aceitaGzip(String aceitas) {
+        if (aceitas == null) {
+            return false;
+        }
+
+        Double gzip = null;
+        Double curinga = null;
+
+        for (String item : aceitas.split(",")) {
+            String[] partes = item.split(";");
+            String codificacao = partes[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1;
+
+            for (int i = 1; i < partes.length; i++) {
+                String parametro = partes[i].trim().toLowerCase(Locale.ROOT);
+
+                if (parametro.startsWith("q=")) {
+                    try {
+                        q = Double.parseDouble(parametro.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+
+            if (codificacao.equals("gzip") || codificacao.equals("x-gzip")) {
+                gzip = q;
+            } else if (codificacao.equals("*")) {
+                curinga = q;
+            }
+        }
+
+        double aceitacao = gzip != null ? gzip : curinga != null ? curinga : 0;
+        return aceitacao > 0;
+    }
+
+    private static HttpServletRequest requisicaoAtual() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes atributos
+                ? atributos.getRequest()
+                : null;
+    }
+}
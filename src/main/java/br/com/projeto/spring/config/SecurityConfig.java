@@ -1,9 +1,11 @@
 package br.com.projeto.spring.config;
 
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -15,6 +17,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
@@ -27,10 +30,15 @@ import br.com.projeto.spring.domain.model.Usuario;
 import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
 import br.com.projeto.spring.i18n.MessageResolver;
 import br.com.projeto.spring.repository.UsuarioRepository;
+import br.com.projeto.spring.security.Argon2Calibrador;
+import br.com.projeto.spring.security.BoundedPasswordEncoder;
 import br.com.projeto.spring.security.JwtAuthenticationEntryPoint;
 import br.com.projeto.spring.security.JwtAuthenticationFilter;
+import br.com.projeto.spring.security.PermissaoVersaoRegistry;
+import br.com.projeto.spring.security.UsuarioPrincipalCache;
 import br.com.projeto.spring.util.JwtUtil;
 import br.com.projeto.spring.util.Util;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Configuração de segurança da aplicação. Define beans relacionados à segurança, como o
@@ -49,13 +57,52 @@ public class SecurityConfig {
     }
 
     /**
-     * Bean responsável por fornecer um PasswordEncoder baseado em Argon2.
+     * Bean responsável por fornecer um PasswordEncoder baseado em Argon2. Os parâmetros de custo são
+     * calibrados na inicialização contra a latência alvo configurada e o hash é executado em um pool
+     * dedicado e limitado, fora das threads de requisição.
      * 
      * @return uma instância de PasswordEncoder configurada com Argon2
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+    public PasswordEncoder passwordEncoder(
+
+            MeterRegistry meterRegistry,
+
+            @Value("${app.security.password-hashing.threads:0}")
+            int threads,
+
+            @Value("${app.security.password-hashing.queue-capacity:64}")
+            int queueCapacity,
+
+            @Value("${app.security.password-hashing.timeout:10s}")
+            Duration timeout,
+
+            @Value("${app.security.password-hashing.retry-after:5s}")
+            Duration retryAfter,
+
+            Argon2Properties argon2
+
+    ) {
+        Argon2PasswordEncoder encoder = argon2.isCalibrar()
+                ? Argon2Calibrador.calibrar(argon2.getLatenciaAlvo(), argon2.getParalelismo(),
+                        argon2.getMemoriaMinimaKb(), argon2.getMemoriaMaximaKb(), argon2.getIteracoesMinimas(),
+                        argon2.getIteracoesMaximas())
+                : Argon2Calibrador.encoder(argon2.getParalelismo(), argon2.getMemoriaMinimaKb(),
+                        argon2.getIteracoesMinimas());
+
+        return new BoundedPasswordEncoder(encoder, threads, queueCapacity, timeout, retryAfter, meterRegistry);
+    }
+
+    /**
+     * Persiste o novo hash quando o {@code DaoAuthenticationProvider} detecta, em um login bem
+     * sucedido, que a senha foi gerada com parâmetros do Argon2 inferiores aos atuais.
+     */
+    @Bean
+    public UserDetailsPasswordService userDetailsPasswordService(UsuarioRepository usuarioRepository) {
+        return (user, newPassword) -> {
+            usuarioRepository.atualizarSenhaPorUsername(user.getUsername(), newPassword);
+            return User.withUserDetails(user).password(newPassword).build();
+        };
     }
 
     @Bean
@@ -86,9 +133,9 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService,
-            MessageResolver messages) {
-        return new JwtAuthenticationFilter(jwtUtil, userDetailsService, messages);
+    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtUtil jwtUtil, UsuarioPrincipalCache principalCache,
+            PermissaoVersaoRegistry permissaoVersaoRegistry, MessageResolver messages) {
+        return new JwtAuthenticationFilter(jwtUtil, principalCache, permissaoVersaoRegistry, messages);
     }
 
     @Bean
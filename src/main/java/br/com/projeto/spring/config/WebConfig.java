@@ -1,21 +1,64 @@
 package br.com.projeto.spring.config;
 
 // ...existing code...
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.lang.NonNull;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import br.com.projeto.spring.cache.RespostaSerializadaCache;
+import jakarta.persistence.EntityManagerFactory;
+
 /**
- * Registra interceptors MVC.
+ * Registra interceptors MVC e, se habilitado, o conversor de respostas JSON memoizadas.
+ * <p>
+ * O Open EntityManager in View é registrado aqui ({@code spring.jpa.open-in-view=false}) para
+ * excluir o login: com ele, a conexão da consulta do usuário ficaria retida enquanto a senha espera
+ * no pool limitado de hash, e uma rajada de logins esgotaria o pool de conexões.
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private static final String[] SEM_ENTITY_MANAGER_IN_VIEW = { "/auth/login" };
+
     private LoggingInterceptor loggingInterceptor;
+    private OpenEntityManagerInViewInterceptor entityManagerInView;
+    private RespostaSerializadaCache respostaSerializadaCache;
+    private List<String> respostaSerializadaPaths;
+
+    public WebConfig(
+
+            LoggingInterceptor loggingInterceptor,
+
+            EntityManagerFactory entityManagerFactory,
+
+            RespostaSerializadaCache respostaSerializadaCache,
 
-    public WebConfig(LoggingInterceptor loggingInterceptor) {
+            @Value("${app.cache.resposta.paths:/laboratorios/**,/remedios/**}")
+            List<String> respostaSerializadaPaths
+
+    ) {
         this.loggingInterceptor = loggingInterceptor;
+        this.entityManagerInView = new OpenEntityManagerInViewInterceptor();
+        this.entityManagerInView.setEntityManagerFactory(entityManagerFactory);
+        this.respostaSerializadaCache = respostaSerializadaCache;
+        this.respostaSerializadaPaths = respostaSerializadaPaths;
+    }
+
+    @Override
+    public void extendMessageConverters(
+
+            @NonNull
+            List<HttpMessageConverter<?>> converters) {
+
+        if (respostaSerializadaCache.isHabilitado()) {
+            converters.add(0, new RespostaSerializadaConverter(respostaSerializadaCache, respostaSerializadaPaths));
+        }
     }
 
     @Override
@@ -25,5 +68,6 @@ public class WebConfig implements WebMvcConfigurer {
             InterceptorRegistry registry) {
 
         registry.addInterceptor(loggingInterceptor).addPathPatterns("/**");
+        registry.addWebRequestInterceptor(entityManagerInView).excludePathPatterns(SEM_ENTITY_MANAGER_IN_VIEW);
     }
 }
@@ -17,14 +17,20 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import br.com.projeto.spring.domain.dto.request.laboratorio.LaboratorioRequest;
 import br.com.projeto.spring.domain.dto.request.laboratorio.LaboratorioUpdateRequest;
+import br.com.projeto.spring.domain.dto.response.CursorPageResponse;
+import br.com.projeto.spring.domain.dto.response.ExclusaoEmLoteResponse;
 import br.com.projeto.spring.domain.dto.response.PageResponse;
+import br.com.projeto.spring.domain.dto.response.SliceResponse;
 import br.com.projeto.spring.domain.dto.response.laboratorio.LaboratorioResponse;
 import br.com.projeto.spring.domain.dto.response.remedio.RemedioResponse;
 import br.com.projeto.spring.service.LaboratorioService;
+import br.com.projeto.spring.util.OrdenacaoPermitida;
 import br.com.projeto.spring.util.Util;
+import br.com.projeto.spring.util.UtilEtag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -39,6 +45,7 @@ public class LaboratorioController {
      * Busca um laboratório pelo ID.
      *
      * @param id ID do laboratório
+     * @param request requisição, para responder 304 quando o ETag ou a data de alteração conferem
      * @return ResponseEntity com os dados do laboratório
      */
     @GetMapping("/{id}")
@@ -46,9 +53,17 @@ public class LaboratorioController {
     public ResponseEntity<LaboratorioResponse> buscarLaboratorioPorId(
 
             @PathVariable
-            Long id) {
+            Long id,
+
+            WebRequest request) {
 
         LaboratorioResponse response = service.buscarLaboratorioPorId(id);
+
+        if (request.checkNotModified(UtilEtag.gerar(response.id(), response.updatedAt()),
+                UtilEtag.epochMilli(response.updatedAt()))) {
+            return null;
+        }
+
         return ResponseEntity.ok(response);
     }
 
@@ -57,6 +72,7 @@ public class LaboratorioController {
      *
      * @param page página solicitada
      * @param pageSize tamanho da página
+     * @param request requisição, para responder 304 quando a versão da listagem não mudou
      * @return ResponseEntity com a lista paginada de laboratórios
      */
     @GetMapping
@@ -70,22 +86,19 @@ public class LaboratorioController {
             String pageSize,
 
             @RequestParam
-            Map<String, String> params) {
+            Map<String, String> params,
 
-        var sortParam = params.get("sortBy");
-        var orderParam = params.get("order");
+            WebRequest request) {
 
-        Sort sort = Sort.unsorted();
+        // Parâmetros validados antes do 304: uma ordenação inválida continua respondendo 400
+        Sort sort = Util.gerarOrdenacao(params.get("sortBy"), params.get("order"), OrdenacaoPermitida.LABORATORIO);
+        Pageable paginacao = Util.gerarPaginacao(page, pageSize, sort);
 
-        if (Util.preenchido(sortParam)) {
-            if (Util.preenchido(orderParam) && orderParam.equals("asc")) {
-                sort = Sort.by(sortParam).ascending();
-            } else {
-                sort = Sort.by(sortParam).descending();
-            }
+        // Apenas ETag: a maior data de alteração não muda quando um registro é excluído
+        if (request.checkNotModified(UtilEtag.gerar(service.buscarVersaoLaboratorios()))) {
+            return null;
         }
 
-        Pageable paginacao = Util.gerarPaginacao(page, pageSize, sort);
         PageResponse<LaboratorioResponse> response = service.listarLaboratorios(paginacao);
 
         if (Util.vazio(response.content())) {
@@ -95,12 +108,80 @@ public class LaboratorioController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Lista os laboratórios por cursor (keyset), com custo constante por página independentemente da
+     * profundidade. Envie {@code cursor} vazio na primeira página e o {@code nextCursor} recebido nas
+     * seguintes.
+     *
+     * @param cursor cursor da página anterior
+     * @param pageSize tamanho da página
+     * @param params parâmetros de ordenação (sortBy, order) da primeira página
+     * @return ResponseEntity com a página de laboratórios e o cursor da próxima
+     */
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasAuthority('laboratorio:read')")
+    public ResponseEntity<CursorPageResponse<LaboratorioResponse>> listarLaboratoriosPorCursor(
+
+            @RequestParam
+            String cursor,
+
+            @RequestParam(defaultValue = "10")
+            String pageSize,
+
+            @RequestParam
+            Map<String, String> params) {
+
+        Sort sort = Util.gerarOrdenacao(params.get("sortBy"), params.get("order"), OrdenacaoPermitida.LABORATORIO);
+        CursorPageResponse<LaboratorioResponse> response =
+                service.listarLaboratoriosPorCursor(cursor, sort, Util.gerarTamanhoPagina(pageSize));
+
+        if (Util.vazio(response.content())) {
+            return ResponseEntity.noContent().build();
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Lista os laboratórios de forma paginada sem o total de registros ({@code total=false}),
+     * evitando a contagem da tabela a cada página.
+     *
+     * @param page página solicitada
+     * @param pageSize tamanho da página
+     * @param params parâmetros de ordenação (sortBy, order)
+     * @return ResponseEntity com a página de laboratórios e se há próxima
+     */
+    @GetMapping(params = { "total=false", "!cursor" })
+    @PreAuthorize("hasAuthority('laboratorio:read')")
+    public ResponseEntity<SliceResponse<LaboratorioResponse>> listarLaboratoriosSemTotal(
+
+            @RequestParam(defaultValue = "0")
+            String page,
+
+            @RequestParam(defaultValue = "10")
+            String pageSize,
+
+            @RequestParam
+            Map<String, String> params) {
+
+        Sort sort = Util.gerarOrdenacao(params.get("sortBy"), params.get("order"), OrdenacaoPermitida.LABORATORIO);
+        SliceResponse<LaboratorioResponse> response =
+                service.listarLaboratoriosSemTotal(Util.gerarPaginacao(page, pageSize, sort));
+
+        if (Util.vazio(response.content())) {
+            return ResponseEntity.noContent().build();
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Lista os remédios de um laboratório específico de forma paginada.
      *
      * @param id ID do laboratório
      * @param page página solicitada
      * @param pageSize tamanho da página
+     * @param request requisição, para responder 304 quando a versão da listagem não mudou
      * @return ResponseEntity com a lista paginada de remédios
      */
     @GetMapping("/{id}/remedios")
@@ -114,9 +195,16 @@ public class LaboratorioController {
             String page,
 
             @RequestParam(defaultValue = "10")
-            String pageSize) {
+            String pageSize,
+
+            WebRequest request) {
+
+        Pageable paginacao = Util.gerarPaginacao(page, pageSize, Sort.by("createdAt", "id"));
+
+        if (request.checkNotModified(UtilEtag.gerar(service.buscarVersaoRemediosPorLaboratorio(id)))) {
+            return null;
+        }
 
-        Pageable paginacao = Util.gerarPaginacao(page, pageSize, Sort.by("createdAt"));
         PageResponse<RemedioResponse> response = service.listarRemediosPorLaboratorio(id, paginacao);
         if (Util.vazio(response.content())) {
             return ResponseEntity.noContent().build();
@@ -124,6 +212,37 @@ public class LaboratorioController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Lista os remédios de um laboratório por cursor (keyset).
+     *
+     * @param id ID do laboratório
+     * @param cursor cursor da página anterior (vazio na primeira página)
+     * @param pageSize tamanho da página
+     * @return ResponseEntity com a página de remédios e o cursor da próxima
+     */
+    @GetMapping(value = "/{id}/remedios", params = "cursor")
+    @PreAuthorize("hasAuthority('laboratorio:read') and hasAuthority('remedio:read')")
+    public ResponseEntity<CursorPageResponse<RemedioResponse>> listarRemediosPorLaboratorioPorCursor(
+
+            @PathVariable
+            Long id,
+
+            @RequestParam
+            String cursor,
+
+            @RequestParam(defaultValue = "10")
+            String pageSize) {
+
+        CursorPageResponse<RemedioResponse> response = service.listarRemediosPorLaboratorioPorCursor(id, cursor,
+                Sort.by("createdAt", "id"), Util.gerarTamanhoPagina(pageSize));
+
+        if (Util.vazio(response.content())) {
+            return ResponseEntity.noContent().build();
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Cria um novo laboratório.
      *
@@ -205,17 +324,16 @@ public class LaboratorioController {
      * Deleta vários laboratórios em lote.
      *
      * @param ids lista de IDs dos laboratórios
-     * @return ResponseEntity sem conteúdo
+     * @return ResponseEntity com a quantidade de laboratórios excluídos
      */
     @DeleteMapping("/lote")
     @PreAuthorize("hasAuthority('laboratorio:delete')")
-    public ResponseEntity<Void> deletarLaboratorioEmLote(
+    public ResponseEntity<ExclusaoEmLoteResponse> deletarLaboratorioEmLote(
 
             @RequestBody
             List<Long> ids) {
 
-        service.deletarLaboratorioEmLote(ids);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(service.deletarLaboratorioEmLote(ids));
     }
 
 }
@@ -17,12 +17,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import br.com.projeto.spring.domain.dto.request.remedio.RemedioRequest;
+import br.com.projeto.spring.domain.dto.response.CursorPageResponse;
 import br.com.projeto.spring.domain.dto.response.PageResponse;
+import br.com.projeto.spring.domain.dto.response.SliceResponse;
 import br.com.projeto.spring.domain.dto.response.remedio.RemedioResponse;
 import br.com.projeto.spring.service.RemedioService;
+import br.com.projeto.spring.util.OrdenacaoPermitida;
 import br.com.projeto.spring.util.Util;
+import br.com.projeto.spring.util.UtilEtag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -37,6 +42,7 @@ public class RemedioController {
      * Busca um remédio pelo seu ID.
      *
      * @param id ID do remédio.
+     * @param request requisição, para responder 304 quando o ETag confere.
      * @return ResponseEntity contendo o DTO de resposta do remédio.
      */
     @GetMapping("/{id}")
@@ -44,9 +50,21 @@ public class RemedioController {
     public ResponseEntity<RemedioResponse> buscarRemedioPorId(
 
             @PathVariable
-            Long id) {
+            Long id,
+
+            WebRequest request) {
 
         RemedioResponse remedioResponse = service.buscarRemedioPorId(id);
+
+        // O nome do laboratório faz parte da resposta e entra no ETag. Sem Last-Modified: a data de
+        // alteração do remédio não muda quando o laboratório é renomeado
+        String etag = UtilEtag.gerar(remedioResponse.id(), remedioResponse.updatedAt(),
+                remedioResponse.laboratorio().id(), remedioResponse.laboratorio().nome());
+
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
         return ResponseEntity.ok(remedioResponse);
     }
 
@@ -55,6 +73,7 @@ public class RemedioController {
      *
      * @param pageSize Tamanho da página.
      * @param page Número da página.
+     * @param request requisição, para responder 304 quando a versão da listagem não mudou.
      * @return ResponseEntity contendo a página de DTOs de resposta de remédio.
      */
     @GetMapping
@@ -68,22 +87,19 @@ public class RemedioController {
             String page,
 
             @RequestParam
-            Map<String, String> params) {
+            Map<String, String> params,
 
-        var sortParam = params.get("sortBy");
-        var orderParam = params.get("order");
+            WebRequest request) {
 
-        Sort sort = Sort.unsorted();
+        // Parâmetros validados antes do 304: uma ordenação inválida continua respondendo 400
+        Sort sort = Util.gerarOrdenacao(params.get("sortBy"), params.get("order"), OrdenacaoPermitida.REMEDIO);
+        Pageable paginacao = Util.gerarPaginacao(page, pageSize, sort);
 
-        if (Util.preenchido(sortParam)) {
-            if (Util.preenchido(orderParam) && orderParam.equals("asc")) {
-                sort = Sort.by(sortParam).ascending();
-            } else {
-                sort = Sort.by(sortParam).descending();
-            }
+        // Apenas ETag: a maior data de alteração não muda quando um registro é excluído
+        if (request.checkNotModified(UtilEtag.gerar(service.buscarVersaoRemedios()))) {
+            return null;
         }
 
-        Pageable paginacao = Util.gerarPaginacao(page, pageSize, sort);
         PageResponse<RemedioResponse> remedioPage = service.listarRemedios(paginacao);
 
         if (Util.vazio(remedioPage.content())) {
@@ -93,6 +109,73 @@ public class RemedioController {
         return ResponseEntity.ok(remedioPage);
     }
 
+    /**
+     * Lista os remédios por cursor (keyset), com custo constante por página independentemente da
+     * profundidade. Envie {@code cursor} vazio na primeira página e o {@code nextCursor} recebido nas
+     * seguintes.
+     *
+     * @param cursor Cursor da página anterior.
+     * @param pageSize Tamanho da página.
+     * @param params Parâmetros de ordenação (sortBy, order) da primeira página.
+     * @return ResponseEntity contendo a página de DTOs de resposta de remédio e o cursor da próxima.
+     */
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasAuthority('remedio:read')")
+    public ResponseEntity<CursorPageResponse<RemedioResponse>> listarRemediosPorCursor(
+
+            @RequestParam
+            String cursor,
+
+            @RequestParam(defaultValue = "10")
+            String pageSize,
+
+            @RequestParam
+            Map<String, String> params) {
+
+        Sort sort = Util.gerarOrdenacao(params.get("sortBy"), params.get("order"), OrdenacaoPermitida.REMEDIO);
+        CursorPageResponse<RemedioResponse> remedioPage =
+                service.listarRemediosPorCursor(cursor, sort, Util.gerarTamanhoPagina(pageSize));
+
+        if (Util.vazio(remedioPage.content())) {
+            return ResponseEntity.noContent().build();
+        }
+
+        return ResponseEntity.ok(remedioPage);
+    }
+
+    /**
+     * Lista os remédios com paginação sem o total de registros ({@code total=false}), evitando a
+     * contagem da tabela a cada página.
+     *
+     * @param page Número da página.
+     * @param pageSize Tamanho da página.
+     * @param params Parâmetros de ordenação (sortBy, order).
+     * @return ResponseEntity contendo a página de DTOs de resposta de remédio e se há próxima.
+     */
+    @GetMapping(params = { "total=false", "!cursor" })
+    @PreAuthorize("hasAuthority('remedio:read')")
+    public ResponseEntity<SliceResponse<RemedioResponse>> listarRemediosSemTotal(
+
+            @RequestParam(defaultValue = "0")
+            String page,
+
+            @RequestParam(defaultValue = "10")
+            String pageSize,
+
+            @RequestParam
+            Map<String, String> params) {
+
+        Sort sort = Util.gerarOrdenacao(params.get("sortBy"), params.get("order"), OrdenacaoPermitida.REMEDIO);
+        SliceResponse<RemedioResponse> remedioPage =
+                service.listarRemediosSemTotal(Util.gerarPaginacao(page, pageSize, sort));
+
+        if (Util.vazio(remedioPage.content())) {
+            return ResponseEntity.noContent().build();
+        }
+
+        return ResponseEntity.ok(remedioPage);
+    }
+
     /**
      * Cria um novo remédio.
      *
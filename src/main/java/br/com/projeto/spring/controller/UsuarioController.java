@@ -19,9 +19,12 @@ import org.springframework.web.bind.annotation.RestController;
 
 import br.com.projeto.spring.domain.dto.request.usuario.UsuarioRequest;
 import br.com.projeto.spring.domain.dto.request.usuario.UsuarioUpdateRequest;
+import br.com.projeto.spring.domain.dto.response.CursorPageResponse;
 import br.com.projeto.spring.domain.dto.response.PageResponse;
+import br.com.projeto.spring.domain.dto.response.SliceResponse;
 import br.com.projeto.spring.domain.dto.response.usuario.UsuarioResponse;
 import br.com.projeto.spring.service.UsuarioService;
+import br.com.projeto.spring.util.OrdenacaoPermitida;
 import br.com.projeto.spring.util.Util;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -67,21 +70,58 @@ public class UsuarioController {
             @RequestParam
             Map<String, String> params) {
 
-        var sortParam = params.get("sortBy");
-        var orderParam = params.get("order");
+        Sort sort = Util.gerarOrdenacao(params.get("sortBy"), params.get("order"), OrdenacaoPermitida.USUARIO);
 
-        Sort sort = Sort.unsorted();
+        Pageable paginacao = Util.gerarPaginacao(page, pageSize, sort);
+        PageResponse<UsuarioResponse> response = service.listarUsuarios(paginacao);
 
-        if (Util.preenchido(sortParam)) {
-            if (Util.preenchido(orderParam) && orderParam.equals("asc")) {
-                sort = Sort.by(sortParam).ascending();
-            } else {
-                sort = Sort.by(sortParam).descending();
-            }
+        if (Util.vazio(response.content())) {
+            return ResponseEntity.noContent().build();
         }
 
-        Pageable paginacao = Util.gerarPaginacao(page, pageSize, sort);
-        PageResponse<UsuarioResponse> response = service.listarUsuarios(paginacao);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasAuthority('usuario:read')")
+    public ResponseEntity<CursorPageResponse<UsuarioResponse>> listarUsuariosPorCursor(
+
+            @RequestParam
+            String cursor,
+
+            @RequestParam(defaultValue = "10")
+            String pageSize,
+
+            @RequestParam
+            Map<String, String> params) {
+
+        Sort sort = Util.gerarOrdenacao(params.get("sortBy"), params.get("order"), OrdenacaoPermitida.USUARIO);
+        CursorPageResponse<UsuarioResponse> response =
+                service.listarUsuariosPorCursor(cursor, sort, Util.gerarTamanhoPagina(pageSize));
+
+        if (Util.vazio(response.content())) {
+            return ResponseEntity.noContent().build();
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(params = { "total=false", "!cursor" })
+    @PreAuthorize("hasAuthority('usuario:read')")
+    public ResponseEntity<SliceResponse<UsuarioResponse>> listarUsuariosSemTotal(
+
+            @RequestParam(defaultValue = "0")
+            String page,
+
+            @RequestParam(defaultValue = "10")
+            String pageSize,
+
+            @RequestParam
+            Map<String, String> params) {
+
+        Sort sort = Util.gerarOrdenacao(params.get("sortBy"), params.get("order"), OrdenacaoPermitida.USUARIO);
+        SliceResponse<UsuarioResponse> response =
+                service.listarUsuariosSemTotal(Util.gerarPaginacao(page, pageSize, sort));
 
         if (Util.vazio(response.content())) {
             return ResponseEntity.noContent().build();
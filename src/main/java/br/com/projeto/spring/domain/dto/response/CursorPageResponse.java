@@ -0,0 +1,19 @@
+package br.com.projeto.spring.domain.dto.response;
+
+import java.util.List;
+
+/**
+ * Página de uma listagem por cursor (keyset). {@code nextCursor} deve ser enviado no parâmetro
+ * {@code cursor} para obter a página seguinte e é {@code null} na última página.
+ */
+public record CursorPageResponse<T>(
+
+        List<T> content,
+
+        int pageSize,
+
+        boolean hasNext,
+
+        String nextCursor
+
+) {}
@@ -0,0 +1,10 @@
+package br.com.projeto.spring.domain.dto.response;
+
+/**
+ * Resultado de uma exclusão em lote.
+ */
+public record ExclusaoEmLoteResponse(
+
+        int excluidos
+
+) {}
@@ -0,0 +1,19 @@
+package br.com.projeto.spring.domain.dto.response;
+
+import java.util.List;
+
+/**
+ * Página de uma listagem sem total de registros: a consulta lê um registro a mais para saber se há
+ * próxima página e não executa {@code count(*)}.
+ */
+public record SliceResponse<T>(
+
+        List<T> content,
+
+        int pageNumber,
+
+        int pageSize,
+
+        boolean hasNext
+
+) {}
@@ -6,17 +6,11 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
-import jakarta.validation.constraints.Positive;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
-import lombok.EqualsAndHashCode.Include;
 import lombok.NoArgsConstructor;
 
 @MappedSuperclass
@@ -26,11 +20,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class BaseEntity {
 
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Include
-    @Positive(message = ValidationMessagesKeys.GENERICO_POSITIVO)
-    private Long id;
+    // O id é declarado em cada entidade: o nome do @SequenceGenerator é global na unidade de persistência
 
     @CreatedDate
     @Column(name = "created_at", updatable = false, nullable = false)
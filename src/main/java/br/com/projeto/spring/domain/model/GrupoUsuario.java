@@ -6,11 +6,16 @@ import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -22,6 +27,12 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class GrupoUsuario extends BaseEntity {
 
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "grupo_usuario_id_seq")
+    @SequenceGenerator(name = "grupo_usuario_id_seq", sequenceName = "grupo_usuario_id_seq", allocationSize = 1)
+    @Positive(message = ValidationMessagesKeys.GENERICO_POSITIVO)
+    private Long id;
+
     @Column(nullable = false, unique = true)
     @NotBlank(message = ValidationMessagesKeys.GENERICO_OBRIGATORIO)
     private String nome;
@@ -2,11 +2,17 @@ package br.com.projeto.spring.domain.model;
 
 import java.util.List;
 
+import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
 import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -18,6 +24,12 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class Laboratorio extends BaseEntity {
 
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "laboratorio_id_seq")
+    @SequenceGenerator(name = "laboratorio_id_seq", sequenceName = "laboratorio_id_seq", allocationSize = 50)
+    @Positive(message = ValidationMessagesKeys.GENERICO_POSITIVO)
+    private Long id;
+
     @NotBlank
     private String nome;
 
@@ -6,12 +6,17 @@ import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -24,6 +29,12 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class Remedio extends BaseEntity {
 
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "remedio_id_seq")
+    @SequenceGenerator(name = "remedio_id_seq", sequenceName = "remedio_id_seq", allocationSize = 50)
+    @Positive(message = ValidationMessagesKeys.GENERICO_POSITIVO)
+    private Long id;
+
     @NotBlank(message = ValidationMessagesKeys.GENERICO_OBRIGATORIO)
     private String nome;
 
@@ -6,12 +6,17 @@ import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -23,6 +28,12 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class Usuario extends BaseEntity {
 
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "usuario_id_seq")
+    @SequenceGenerator(name = "usuario_id_seq", sequenceName = "usuario_id_seq", allocationSize = 1)
+    @Positive(message = ValidationMessagesKeys.GENERICO_POSITIVO)
+    private Long id;
+
     @Column(unique = true, nullable = false)
     @NotBlank(message = ValidationMessagesKeys.GENERICO_OBRIGATORIO)
     private String username;
@@ -58,6 +69,13 @@ public class Usuario extends BaseEntity {
     @Column(name = "is_admin")
     private boolean isAdmin;
 
+    /**
+     * Versão das permissões do usuário, incrementada apenas via
+     * {@code UsuarioRepository.incrementarPermissaoVersao}.
+     */
+    @Column(name = "permissao_versao", insertable = false, updatable = false)
+    private Long permissaoVersao;
+
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(name = "usuario_grupo_usuario", joinColumns = @JoinColumn(name = "usuario_id"),
             inverseJoinColumns = @JoinColumn(name = "grupo_usuario_id"))
@@ -0,0 +1,20 @@
+package br.com.projeto.spring.exception;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+/**
+ * Exceção lançada quando o serviço está temporariamente sobrecarregado e a requisição deve ser
+ * repetida após o intervalo informado.
+ */
+@Getter
+public class ServicoIndisponivelException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServicoIndisponivelException(String key, Duration retryAfter) {
+        super(key);
+        this.retryAfter = retryAfter;
+    }
+}
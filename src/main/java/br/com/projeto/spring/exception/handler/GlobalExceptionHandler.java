@@ -28,6 +28,7 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 import br.com.projeto.spring.config.TraceIdFilter;
 import br.com.projeto.spring.exception.EntityInUseException;
 import br.com.projeto.spring.exception.ResourceNotFoundException;
+import br.com.projeto.spring.exception.ServicoIndisponivelException;
 import br.com.projeto.spring.exception.ValidationException;
 import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
 import br.com.projeto.spring.i18n.MessageResolver;
@@ -71,6 +72,16 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return buildErrorResponse(HttpStatus.FORBIDDEN, mensagemErro, null);
     }
 
+    @ExceptionHandler(ServicoIndisponivelException.class)
+    public ResponseEntity<Object> handleServicoIndisponivel(ServicoIndisponivelException ex) {
+        String mensagemErro = messages.get(ex.getMessage());
+        ResponseEntity<Object> response = buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, mensagemErro, null);
+
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Object> handleIllegalArgument(IllegalArgumentException ex) {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), null);
@@ -78,7 +89,8 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<Object> handleValidationException(ValidationException ex) {
-        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), ex.getErrors());
+        // A mensagem pode ser uma chave ou um texto já resolvido (devolvido como está)
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, messages.get(ex.getMessage()), ex.getErrors());
     }
 
     @Override
@@ -9,8 +9,10 @@ public class ValidationMessagesKeys {
     public static final String REMEDIO_NAO_ENCONTRADO = "remedio.nao.encontrado";
 
     public static final String LABORATORIO_NAO_ENCONTRADO = "laboratorio.nao.encontrado";
+    public static final String LABORATORIOS_NAO_ENCONTRADOS = "laboratorios.nao.encontrados";
     public static final String LABORATORIO_EMAIL_UNICO = "laboratorio.email.unico";
     public static final String LABORATORIO_EXCLUSAO_REMEDIOS_EXISTENTES = "laboratorio.exclusao.remedios.existentes";
+    public static final String LABORATORIO_EXCLUSAO_REMEDIOS_RESTANTES = "laboratorio.exclusao.remedios.restantes";
 
     public static final String USUARIO_NAO_ENCONTRADO = "usuario.nao.encontrado";
 
@@ -28,6 +30,9 @@ public class ValidationMessagesKeys {
     // Outras mensagens estáticas
     public static final String ERRO_VALIDACAO = "erro.validacao";
     public static final String ERRO_INTERNO_INESPERADO = "erro.interno.inesperado";
+    public static final String ERRO_SERVICO_SOBRECARREGADO = "erro.servico.sobrecarregado";
+    public static final String PAGINACAO_CURSOR_INVALIDO = "paginacao.cursor.invalido";
+    public static final String PAGINACAO_ORDENACAO_INVALIDA = "paginacao.ordenacao.invalida";
 
     public static final String AUTENTICACAO_NAO_AUTORIZADO = "autenticacao.nao.autorizado";
     public static final String AUTENTICACAO_FALHA = "autenticacao.falha";
@@ -7,6 +7,7 @@ import br.com.projeto.spring.domain.dto.response.remedio.LaboratorioResumoRespon
 import br.com.projeto.spring.domain.dto.response.remedio.RemedioResponse;
 import br.com.projeto.spring.domain.model.Laboratorio;
 import br.com.projeto.spring.domain.model.Remedio;
+import br.com.projeto.spring.repository.projection.RemedioResumo;
 import br.com.projeto.spring.util.Util;
 
 @Component
@@ -54,6 +55,32 @@ public class RemedioMapper {
         );
     }
 
+    public RemedioResponse toResponse(RemedioResumo resumo) {
+        return new RemedioResponse(
+
+                resumo.id(),
+
+                resumo.nome(),
+
+                resumo.via(),
+
+                resumo.lote(),
+
+                resumo.validade(),
+
+                new LaboratorioResumoResponse(
+
+                        resumo.laboratorioId(),
+
+                        resumo.laboratorioNome()),
+
+                resumo.createdAt(),
+
+                resumo.updatedAt()
+
+        );
+    }
+
     public void updateEntity(Remedio remedio, RemedioRequest request, Laboratorio laboratorio) {
         if (request == null)
             return;
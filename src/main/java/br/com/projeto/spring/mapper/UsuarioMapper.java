@@ -157,6 +157,7 @@ public class UsuarioMapper {
         usuario.setUf(usuarioBanco.getUf());
         usuario.setCep(usuarioBanco.getCep());
         usuario.setAdmin(usuarioBanco.isAdmin());
+        usuario.setPermissaoVersao(usuarioBanco.getPermissaoVersao());
         usuario.setCreatedAt(usuarioBanco.getCreatedAt());
         usuario.setUpdatedAt(usuarioBanco.getUpdatedAt());
         usuario.setGruposUsuario(usuarioBanco.getGruposUsuario());
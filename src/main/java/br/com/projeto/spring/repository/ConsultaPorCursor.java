@@ -0,0 +1,123 @@
+package br.com.projeto.spring.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import br.com.projeto.spring.util.UtilCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Páginas por cursor (keyset) com comparação de tupla: {@code (nome, id) > (?, ?)}. Ao contrário do
+ * predicado expandido do scroll do Spring Data ({@code nome > ? OR (nome = ? AND id > ?)}), que o
+ * PostgreSQL aplica como filtro lendo o índice desde o início, a tupla vira condição de acesso ao
+ * índice {@code (coluna, id)} e cada página lê apenas as próprias linhas.
+ * <p>
+ * Exige todas as chaves na mesma direção, como as ordenações geradas por
+ * {@link UtilCursor#decodificar}. As propriedades da ordenação entram no HQL e devem vir de
+ * {@link br.com.projeto.spring.util.OrdenacaoPermitida}.
+ */
+@Component
+public class ConsultaPorCursor {
+
+    private static final String ALIAS = "e";
+
+    private final EntityManager entityManager;
+
+    public ConsultaPorCursor(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Busca a página seguinte à posição informada.
+     *
+     * @param entidade classe da entidade
+     * @param posicao ordenação e chaves do último registro da página anterior
+     * @param tamanhoPagina tamanho da página
+     * @return registros da página e suas posições
+     */
+    public <T> Window<T> buscar(Class<T> entidade, UtilCursor.Posicao posicao, int tamanhoPagina) {
+        return buscar(entidade, null, null, Map.of(), posicao, tamanhoPagina);
+    }
+
+    /**
+     * Busca a página seguinte à posição informada, com associação carregada junto e filtro adicional.
+     *
+     * @param entidade classe da entidade
+     * @param juncao associação carregada com {@code join fetch} (ex.: {@code laboratorio}), ou
+     *        {@code null}
+     * @param filtro condição HQL sobre o alias {@code e} (ex.: {@code e.laboratorio.id = :id}), ou
+     *        {@code null}
+     * @param parametros parâmetros nomeados do filtro
+     * @param posicao ordenação e chaves do último registro da página anterior
+     * @param tamanhoPagina tamanho da página
+     * @return registros da página e suas posições
+     */
+    public <T> Window<T> buscar(Class<T> entidade, String juncao, String filtro, Map<String, ?> parametros,
+            UtilCursor.Posicao posicao, int tamanhoPagina) {
+
+        Sort sort = posicao.sort();
+        Map<String, Object> chaves = posicao.posicao().getKeys();
+
+        List<String> colunas = new ArrayList<>();
+        List<String> valores = new ArrayList<>();
+        List<String> ordens = new ArrayList<>();
+
+        for (Sort.Order ordem : sort) {
+            colunas.add(ALIAS + "." + ordem.getProperty());
+            valores.add(":k" + valores.size());
+            ordens.add(ALIAS + "." + ordem.getProperty() + (ordem.isAscending() ? " asc" : " desc"));
+        }
+
+        List<String> condicoes = new ArrayList<>();
+
+        if (filtro != null) {
+            condicoes.add(filtro);
+        }
+
+        if (!chaves.isEmpty()) {
+            String operador = sort.iterator().next().isAscending() ? " > " : " < ";
+            condicoes.add("(" + String.join(", ", colunas) + ")" + operador + "(" + String.join(", ", valores) + ")");
+        }
+
+        String hql = "select " + ALIAS + " from " + entityManager.getMetamodel().entity(entidade).getName() + " "
+                + ALIAS + (juncao != null ? " join fetch " + ALIAS + "." + juncao : "")
+                + (condicoes.isEmpty() ? "" : " where " + String.join(" and ", condicoes))
+                + " order by " + String.join(", ", ordens);
+
+        TypedQuery<T> query = entityManager.createQuery(hql, entidade);
+        parametros.forEach(query::setParameter);
+
+        if (!chaves.isEmpty()) {
+            int i = 0;
+
+            for (Sort.Order ordem : sort) {
+                query.setParameter("k" + i++, chaves.get(ordem.getProperty()));
+            }
+        }
+
+        // Um registro a mais indica se há página seguinte
+        List<T> resultado = query.setMaxResults(tamanhoPagina + 1).getResultList();
+        boolean haMais = resultado.size() > tamanhoPagina;
+        List<T> conteudo = haMais ? resultado.subList(0, tamanhoPagina) : resultado;
+
+        return Window.from(conteudo, i -> ScrollPosition.forward(chaves(conteudo.get(i), sort)), haMais);
+    }
+
+    private static Map<String, Object> chaves(Object entidade, Sort sort) {
+        BeanWrapper propriedades = PropertyAccessorFactory.forBeanPropertyAccess(entidade);
+        Map<String, Object> chaves = new LinkedHashMap<>();
+
+        sort.forEach(ordem -> chaves.put(ordem.getProperty(), propriedades.getPropertyValue(ordem.getProperty())));
+        return chaves;
+    }
+}
@@ -1,10 +1,20 @@
 package br.com.projeto.spring.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import br.com.projeto.spring.domain.model.Laboratorio;
+import br.com.projeto.spring.repository.projection.LaboratorioNome;
+import br.com.projeto.spring.repository.projection.RemedioEmUso;
+import br.com.projeto.spring.repository.projection.VersaoListagem;
 
 /**
  * Repositório JPA para a entidade Laboratorio. Fornece métodos para operações de persistência e
@@ -21,18 +31,66 @@ public interface LaboratorioRepository extends JpaRepository<Laboratorio, Long>
     Optional<Laboratorio> findByEmail(String email);
 
     /**
-     * Verifica se existe algum laboratório com o e-mail informado.
+     * Busca, em uma única consulta, quais dos e-mails informados já estão em uso.
      * 
-     * @param email e-mail do laboratório
-     * @return true se existir, false caso contrário
+     * @param emails e-mails a verificar
+     * @return e-mails já cadastrados
+     */
+    @Query("SELECT l.email FROM Laboratorio l WHERE l.email IN :emails")
+    Set<String> buscarEmailsExistentes(Collection<String> emails);
+
+    /**
+     * Busca os remédios que impedem a exclusão dos laboratórios informados, em uma única consulta:
+     * no máximo {@code limite} remédios por laboratório (os de menor ID), cada um com o total de
+     * remédios do laboratório.
+     * 
+     * @param ids identificadores dos laboratórios
+     * @param limite quantidade máxima de remédios retornados por laboratório
+     * @return remédios ordenados por laboratório e ID
      */
-    boolean existsByEmail(String email);
+    @Query("SELECT new br.com.projeto.spring.repository.projection.RemedioEmUso(t.laboratorioId, t.id, t.nome, "
+            + "t.total) FROM (SELECT r.laboratorio.id AS laboratorioId, r.id AS id, r.nome AS nome, "
+            + "COUNT(*) OVER (PARTITION BY r.laboratorio.id) AS total, "
+            + "ROW_NUMBER() OVER (PARTITION BY r.laboratorio.id ORDER BY r.id) AS posicao "
+            + "FROM Remedio r WHERE r.laboratorio.id IN :ids) t "
+            + "WHERE t.posicao <= :limite ORDER BY t.laboratorioId, t.id")
+    List<RemedioEmUso> buscarRemediosEmUso(Collection<Long> ids, int limite);
 
     /**
-     * Verifica se o laboratório possui remédios relacionados.
+     * Busca apenas o ID e o nome dos laboratórios informados, sem carregar as entidades.
      * 
-     * @param id identificador do laboratório
-     * @return true se possuir remédios, false caso contrário
+     * @param ids identificadores dos laboratórios
+     * @return laboratórios encontrados
+     */
+    @Query("SELECT new br.com.projeto.spring.repository.projection.LaboratorioNome(l.id, l.nome) "
+            + "FROM Laboratorio l WHERE l.id IN :ids")
+    List<LaboratorioNome> buscarNomes(Collection<Long> ids);
+
+    /**
+     * Exclui os laboratórios informados em um único DELETE, com os IDs em um parâmetro de array.
+     * Não carrega as entidades: as validações de exclusão devem ser feitas antes.
+     * 
+     * @param ids identificadores dos laboratórios
+     * @return quantidade de laboratórios excluídos
+     */
+    @Modifying
+    @Query(value = "DELETE FROM laboratorio WHERE id = ANY(:ids)", nativeQuery = true)
+    int deletarPorIds(Long[] ids);
+
+    /**
+     * Lista os laboratórios sem executar contagem.
+     *
+     * @param paginacao informações de paginação e ordenação
+     * @return fatia de laboratórios
+     */
+    Slice<Laboratorio> findSliceBy(Pageable paginacao);
+
+    /**
+     * Calcula a versão da listagem de laboratórios sem carregar os registros.
+     *
+     * @return quantidade de laboratórios e a maior data de alteração
      */
-    Optional<Laboratorio> findByIdAndRemediosIsNotEmpty(Long id);
+    @Query("SELECT new br.com.projeto.spring.repository.projection.VersaoListagem(COUNT(l), MAX(l.updatedAt)) "
+            + "FROM Laboratorio l")
+    VersaoListagem buscarVersao();
 }
@@ -0,0 +1,55 @@
+package br.com.projeto.spring.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Inclusão de muitas entidades novas na transação corrente. As entidades são persistidas em blocos
+ * do tamanho do lote JDBC ({@code hibernate.jdbc.batch_size}): cada bloco é enviado em um único
+ * batch e o contexto de persistência é esvaziado em seguida, para não crescer com o tamanho da
+ * importação. Requer IDs por sequência: com {@code IDENTITY} o Hibernate não agrupa os INSERTs.
+ * <p>
+ * Após a chamada, as entidades estão desanexadas (com ID e datas de auditoria preenchidos), assim
+ * como as demais entidades carregadas antes na mesma transação.
+ */
+@Component
+public class PersistenciaEmLote {
+
+    private final EntityManager entityManager;
+    private final int tamanhoLote;
+
+    public PersistenciaEmLote(
+
+            EntityManager entityManager,
+
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+            int tamanhoLote
+
+    ) {
+        this.entityManager = entityManager;
+        this.tamanhoLote = Math.max(1, tamanhoLote);
+    }
+
+    /**
+     * Persiste as entidades novas em blocos do tamanho do lote JDBC.
+     *
+     * @param entidades entidades ainda não persistidas
+     */
+    public <T> void inserir(List<T> entidades) {
+        // Alterações pendentes de antes da importação não entram nos batches de INSERT
+        entityManager.flush();
+
+        for (int i = 0; i < entidades.size(); i++) {
+            entityManager.persist(entidades.get(i));
+
+            if ((i + 1) % tamanhoLote == 0 || i == entidades.size() - 1) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+    }
+}
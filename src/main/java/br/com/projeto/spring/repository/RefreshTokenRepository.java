@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import br.com.projeto.spring.domain.model.RefreshToken;
@@ -19,5 +21,13 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
 
     void deleteByTokenHash(String tokenHash);
 
-    void deleteByUsername(String username);
+    /**
+     * Exclui todos os refresh tokens do usuário em um único DELETE, sem carregar as entidades.
+     *
+     * @param username usuário dono dos tokens
+     * @return quantidade de tokens excluídos
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.username = :username")
+    int deletarPorUsername(String username);
 }
@@ -1,10 +1,13 @@
 package br.com.projeto.spring.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import br.com.projeto.spring.domain.model.Remedio;
+import br.com.projeto.spring.repository.projection.RemedioResumo;
+import br.com.projeto.spring.repository.projection.VersaoListagem;
 
 /**
  * Repositório JPA para a entidade Remedio. Fornece métodos para operações de persistência e
@@ -13,12 +16,56 @@ import br.com.projeto.spring.domain.model.Remedio;
 public interface RemedioRepository extends JpaRepository<Remedio, Long> {
 
     /**
-     * Busca página de remédios pelo id do laboratório.
+     * Lista os remédios com o laboratório em uma única consulta, projetando apenas as colunas da
+     * resposta. Não executa contagem: o total, quando necessário, vem do cache de contagens.
+     * 
+     * @param paginacao informações de paginação e ordenação
+     * @return fatia de remédios
+     */
+    @Query("SELECT new br.com.projeto.spring.repository.projection.RemedioResumo(r.id, r.nome, r.via, "
+            + "r.lote, r.validade, l.id, l.nome, r.createdAt, r.updatedAt) FROM Remedio r JOIN r.laboratorio l")
+    Slice<RemedioResumo> listarResumos(Pageable paginacao);
+
+    /**
+     * Busca fatia de remédios pelo id do laboratório, projetando apenas as colunas da resposta. Não
+     * executa contagem.
      * 
      * @param idLaboratorio identificador do laboratório
      * @param paginacao informações de paginação e ordenação
-     * @return página de remédios
+     * @return fatia de remédios
+     */
+    @Query("SELECT new br.com.projeto.spring.repository.projection.RemedioResumo(r.id, r.nome, r.via, "
+            + "r.lote, r.validade, l.id, l.nome, r.createdAt, r.updatedAt) FROM Remedio r JOIN r.laboratorio l "
+            + "WHERE l.id = :idLaboratorio")
+    Slice<RemedioResumo> listarResumosPorLaboratorio(Long idLaboratorio, Pageable paginacao);
+
+    /**
+     * Conta os remédios de um laboratório.
+     * 
+     * @param idLaboratorio identificador do laboratório
+     * @return quantidade de remédios
+     */
+    long countByLaboratorioId(Long idLaboratorio);
+
+    /**
+     * Calcula a versão da listagem de remédios sem carregar os registros. Considera também a data de
+     * alteração do laboratório, cujo nome faz parte da resposta.
+     *
+     * @return quantidade de remédios e a maior data de alteração
      */
-    Page<Remedio> findByLaboratorioId(Long idLaboratorio, Pageable paginacao);
+    @Query("SELECT new br.com.projeto.spring.repository.projection.VersaoListagem(COUNT(r), "
+            + "MAX(CASE WHEN l.updatedAt > r.updatedAt THEN l.updatedAt ELSE r.updatedAt END)) "
+            + "FROM Remedio r JOIN r.laboratorio l")
+    VersaoListagem buscarVersao();
 
+    /**
+     * Calcula a versão da listagem de remédios de um laboratório sem carregar os registros.
+     *
+     * @param idLaboratorio identificador do laboratório
+     * @return quantidade de remédios do laboratório e a maior data de alteração
+     */
+    @Query("SELECT new br.com.projeto.spring.repository.projection.VersaoListagem(COUNT(r), "
+            + "MAX(CASE WHEN l.updatedAt > r.updatedAt THEN l.updatedAt ELSE r.updatedAt END)) "
+            + "FROM Remedio r JOIN r.laboratorio l WHERE l.id = :idLaboratorio")
+    VersaoListagem buscarVersaoPorLaboratorio(Long idLaboratorio);
 }
@@ -2,9 +2,13 @@ package br.com.projeto.spring.repository;
 
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import br.com.projeto.spring.domain.model.Usuario;
 
@@ -18,12 +22,66 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
      */
     Optional<Usuario> findByUsername(String username);
 
-    @Query("SELECT u FROM Usuario u LEFT JOIN FETCH u.gruposUsuario g LEFT JOIN FETCH u.permissoes WHERE u.username = :username")
+    /**
+     * Lista os usuários sem executar contagem.
+     *
+     * @param paginacao informações de paginação e ordenação
+     * @return fatia de usuários
+     */
+    Slice<Usuario> findSliceBy(Pageable paginacao);
+
+    // Carrega também as permissões dos grupos: o login lê tudo sem transação nem EntityManager aberto
+    @Query("SELECT u FROM Usuario u LEFT JOIN FETCH u.gruposUsuario g LEFT JOIN FETCH g.permissoes "
+            + "LEFT JOIN FETCH u.permissoes WHERE u.username = :username")
     Optional<Usuario> findByUsernameWithPermissoesAndGrupos(
 
             @Param("username")
             String username);
 
+    /**
+     * Busca apenas a versão das permissões do usuário.
+     *
+     * @param username nome de usuário
+     * @return versão das permissões, vazio se o usuário não existir
+     */
+    @Query("SELECT u.permissaoVersao FROM Usuario u WHERE u.username = :username")
+    Optional<Long> findPermissaoVersaoByUsername(
+
+            @Param("username")
+            String username);
+
+    /**
+     * Incrementa a versão das permissões do usuário, tornando obsoletas as permissões embutidas nos
+     * access tokens já emitidos.
+     *
+     * @param id identificador do usuário
+     * @return quantidade de registros atualizados
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Usuario u SET u.permissaoVersao = u.permissaoVersao + 1 WHERE u.id = :id")
+    int incrementarPermissaoVersao(
+
+            @Param("id")
+            Long id);
+
+    /**
+     * Atualiza apenas o hash da senha do usuário, usado no rehash transparente após o login.
+     *
+     * @param username nome de usuário
+     * @param senha novo hash da senha
+     * @return quantidade de registros atualizados
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Usuario u SET u.senha = :senha WHERE u.username = :username")
+    int atualizarSenhaPorUsername(
+
+            @Param("username")
+            String username,
+
+            @Param("senha")
+            String senha);
+
     boolean existsByEmail(String email);
 
     boolean existsByUsername(String username);
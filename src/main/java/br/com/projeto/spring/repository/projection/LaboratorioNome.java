@@ -0,0 +1,12 @@
+package br.com.projeto.spring.repository.projection;
+
+/**
+ * Identificação de um laboratório, sem carregar a entidade.
+ */
+public record LaboratorioNome(
+
+        Long id,
+
+        String nome
+
+) {}
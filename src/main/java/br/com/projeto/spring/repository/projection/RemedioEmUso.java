@@ -0,0 +1,16 @@
+package br.com.projeto.spring.repository.projection;
+
+/**
+ * Remédio que impede a exclusão do seu laboratório, com o total de remédios do laboratório.
+ */
+public record RemedioEmUso(
+
+        Long laboratorioId,
+
+        Long id,
+
+        String nome,
+
+        long total
+
+) {}
@@ -0,0 +1,32 @@
+package br.com.projeto.spring.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import br.com.projeto.spring.domain.model.Via;
+
+/**
+ * Colunas de um remédio e do seu laboratório usadas nas listagens, lidas em uma única consulta com
+ * join, sem carregar entidades gerenciadas.
+ */
+public record RemedioResumo(
+
+        Long id,
+
+        String nome,
+
+        Via via,
+
+        String lote,
+
+        LocalDate validade,
+
+        Long laboratorioId,
+
+        String laboratorioNome,
+
+        LocalDateTime createdAt,
+
+        LocalDateTime updatedAt
+
+) {}
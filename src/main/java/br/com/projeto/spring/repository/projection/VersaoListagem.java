@@ -0,0 +1,12 @@
+package br.com.projeto.spring.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Impressão digital de uma listagem: quantidade de registros e a maior data de alteração. Qualquer
+ * inclusão, alteração ou exclusão muda ao menos um dos dois valores.
+ *
+ * @param total quantidade de registros
+ * @param ultimaAlteracao maior {@code updated_at}, ou {@code null} se não houver registros
+ */
+public record VersaoListagem(long total, LocalDateTime ultimaAlteracao) {}
@@ -0,0 +1,87 @@
+package br.com.projeto.spring.security;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+
+/**
+ * Calibra os parâmetros de custo do Argon2 (memória e iterações) contra uma latência alvo medida no
+ * próprio host. A memória é dobrada enquanto o hash custar menos da metade do alvo e, em seguida,
+ * as iterações são incrementadas até atingi-lo. Os parâmetros nunca ficam abaixo do mínimo
+ * informado, de forma que a calibração só aumenta o custo.
+ */
+public final class Argon2Calibrador {
+
+    private static final Logger log = LoggerFactory.getLogger(Argon2Calibrador.class);
+
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+    private static final int AMOSTRAS = 3;
+    private static final String SENHA_CALIBRACAO = "calibracao-argon2";
+
+    private Argon2Calibrador() {}
+
+    /**
+     * Retorna um encoder com os parâmetros calibrados.
+     *
+     * @param latenciaAlvo tempo desejado para uma verificação de senha
+     * @param paralelismo número de lanes do Argon2
+     * @param memoriaMinimaKb memória mínima em KiB
+     * @param memoriaMaximaKb memória máxima em KiB
+     * @param iteracoesMinimas iterações mínimas
+     * @param iteracoesMaximas iterações máximas
+     * @return encoder Argon2 calibrado
+     */
+    public static Argon2PasswordEncoder calibrar(Duration latenciaAlvo, int paralelismo, int memoriaMinimaKb,
+            int memoriaMaximaKb, int iteracoesMinimas, int iteracoesMaximas) {
+
+        long alvo = latenciaAlvo.toNanos();
+        int memoria = memoriaMinimaKb;
+        int iteracoes = iteracoesMinimas;
+
+        long tempo = medir(paralelismo, memoria, iteracoes);
+
+        while (tempo * 2 < alvo && memoria * 2L <= memoriaMaximaKb) {
+            memoria *= 2;
+            tempo = medir(paralelismo, memoria, iteracoes);
+        }
+
+        while (tempo < alvo && iteracoes < iteracoesMaximas) {
+            long tempoProximo = medir(paralelismo, memoria, iteracoes + 1);
+
+            if (tempoProximo > alvo) {
+                break;
+            }
+
+            iteracoes++;
+            tempo = tempoProximo;
+        }
+
+        log.info("Argon2 calibrado: memoria={}KiB iteracoes={} paralelismo={} latencia={}ms (alvo={}ms)", memoria,
+                iteracoes, paralelismo, Duration.ofNanos(tempo).toMillis(), latenciaAlvo.toMillis());
+
+        return encoder(paralelismo, memoria, iteracoes);
+    }
+
+    public static Argon2PasswordEncoder encoder(int paralelismo, int memoriaKb, int iteracoes) {
+        return new Argon2PasswordEncoder(SALT_LENGTH, HASH_LENGTH, paralelismo, memoriaKb, iteracoes);
+    }
+
+    // Menor tempo entre algumas amostras, após um aquecimento, para reduzir o ruído do host
+    private static long medir(int paralelismo, int memoriaKb, int iteracoes) {
+        Argon2PasswordEncoder encoder = encoder(paralelismo, memoriaKb, iteracoes);
+        String hash = encoder.encode(SENHA_CALIBRACAO);
+
+        long melhor = Long.MAX_VALUE;
+
+        for (int i = 0; i < AMOSTRAS; i++) {
+            long inicio = System.nanoTime();
+            encoder.matches(SENHA_CALIBRACAO, hash);
+            melhor = Math.min(melhor, System.nanoTime() - inicio);
+        }
+
+        return melhor;
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.projeto.spring.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import br.com.projeto.spring.exception.ServicoIndisponivelException;
+import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * Decorador de {@link PasswordEncoder} que executa o hash e a verificação de senhas em um pool
+ * dedicado, limitado ao número de núcleos e com fila limitada. Com a fila cheia a requisição é
+ * rejeitada imediatamente com {@link ServicoIndisponivelException}, evitando que rajadas de login
+ * ocupem todas as threads do Tomcat e degradem os demais endpoints.
+ * <p>
+ * O timeout limita apenas a espera de quem chamou. O Argon2 não responde a interrupção: uma tarefa
+ * ainda na fila é descartada, mas um hash em execução ocupa a thread até terminar. Por isso o
+ * timeout deve cobrir a fila cheia, {@code queue-capacity / threads} vezes a latência do hash
+ * (64 × 100 ms com um núcleo), senão as requisições desistem de trabalho que o pool ainda fará.
+ * Quem chama não deve manter uma conexão do banco durante a espera.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    public static final String NOME_POOL = "passwordHashing";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Duration retryAfter;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout,
+            Duration retryAfter, MeterRegistry meterRegistry) {
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.retryAfter = retryAfter;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory(), new ThreadPoolExecutor.AbortPolicy());
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, NOME_POOL);
+
+        this.encodeTimer = Timer.builder("password.hashing").tag("operacao", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing").tag("operacao", "matches").register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executar(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executar(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T executar(Callable<T> tarefa) {
+        Future<T> future;
+
+        try {
+            future = executor.submit(tarefa);
+        } catch (RejectedExecutionException e) {
+            throw sobrecarregado();
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Descarta a tarefa se ainda estiver na fila; o hash já iniciado não é interrompido
+            future.cancel(true);
+            throw sobrecarregado();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw sobrecarregado();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ServicoIndisponivelException sobrecarregado() {
+        return new ServicoIndisponivelException(ValidationMessagesKeys.ERRO_SERVICO_SOBRECARREGADO, retryAfter);
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger contador = new AtomicInteger();
+
+        return r -> {
+            Thread thread = new Thread(r, "password-hashing-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
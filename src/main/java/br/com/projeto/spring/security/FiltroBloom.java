@@ -0,0 +1,54 @@
+package br.com.projeto.spring.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom thread-safe sobre valores já uniformemente distribuídos (hashes HMAC). Os índices
+ * são derivados por hashing duplo a partir de dois longs do próprio valor, sem recalcular hashes.
+ */
+final class FiltroBloom {
+
+    private final AtomicLongArray bits;
+    private final long totalBits;
+    private final int funcoes;
+
+    /**
+     * @param capacidade quantidade de elementos esperada
+     * @param taxaFalsoPositivo taxa de falso positivo desejada para a capacidade informada
+     */
+    FiltroBloom(long capacidade, double taxaFalsoPositivo) {
+        long m = (long) Math.ceil(-capacidade * Math.log(taxaFalsoPositivo) / (Math.log(2) * Math.log(2)));
+
+        this.totalBits = Math.max(64, m);
+        this.funcoes = Math.max(1, (int) Math.round((double) totalBits / capacidade * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((totalBits + 63) / 64));
+    }
+
+    void adicionar(long h1, long h2) {
+        for (int i = 0; i < funcoes; i++) {
+            long indice = Math.floorMod(h1 + i * h2, totalBits);
+            long mascara = 1L << indice;
+            int palavra = (int) (indice >>> 6);
+
+            if ((bits.get(palavra) & mascara) == 0) {
+                bits.accumulateAndGet(palavra, mascara, (a, b) -> a | b);
+            }
+        }
+    }
+
+    boolean podeConter(long h1, long h2) {
+        for (int i = 0; i < funcoes; i++) {
+            long indice = Math.floorMod(h1 + i * h2, totalBits);
+
+            if ((bits.get((int) (indice >>> 6)) & (1L << indice)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    long tamanhoEmBytes() {
+        return bits.length() * 8L;
+    }
+}
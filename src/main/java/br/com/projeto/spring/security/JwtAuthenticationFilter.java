@@ -1,12 +1,14 @@
 package br.com.projeto.spring.security;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -15,6 +17,7 @@ import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
 import br.com.projeto.spring.i18n.MessageResolver;
 import br.com.projeto.spring.util.JwtUtil;
 import br.com.projeto.spring.util.Util;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,12 +26,15 @@ import jakarta.servlet.http.HttpServletResponse;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final UsuarioPrincipalCache principalCache;
+    private final PermissaoVersaoRegistry permissaoVersaoRegistry;
     private final MessageResolver messages;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService, MessageResolver messages) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UsuarioPrincipalCache principalCache,
+            PermissaoVersaoRegistry permissaoVersaoRegistry, MessageResolver messages) {
         this.jwtUtil = jwtUtil;
-        this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.permissaoVersaoRegistry = permissaoVersaoRegistry;
         this.messages = messages;
     }
 
@@ -63,15 +69,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            if (!jwtUtil.validateAccessToken(accessToken)) {
+            Claims claims = jwtUtil.verifyAccessToken(accessToken);
+
+            if (claims == null) {
                 SecurityContextHolder.clearContext();
                 sendUnauthorizedResponse(response, ValidationMessagesKeys.AUTENTICACAO_TOKEN_INVALIDO);
                 return;
             }
 
-            String username = jwtUtil.getUsernameFromAccessToken(accessToken);
-
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = getUserDetails(claims);
 
             if (userDetails == null || !userDetails.isEnabled()) {
                 SecurityContextHolder.clearContext();
@@ -94,6 +100,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * Monta o principal a partir das permissões embutidas no token quando a versão delas ainda é a
+     * atual; caso contrário (token sem as claims ou permissões alteradas) recorre ao cache de
+     * principais.
+     */
+    private UserDetails getUserDetails(Claims claims) {
+        String username = claims.getSubject();
+
+        if (jwtUtil.isStatelessAuthorization()) {
+            List<?> permissoes = claims.get(JwtUtil.CLAIM_PERMISSOES, List.class);
+            Long versao = claims.get(JwtUtil.CLAIM_VERSAO_PERMISSOES, Long.class);
+
+            if (permissoes != null && versao != null && versao == permissaoVersaoRegistry.versaoAtual(username)) {
+                return User.withUsername(username).password("")
+                        .authorities(permissoes.stream().map(p -> new SimpleGrantedAuthority(p.toString())).toList())
+                        .build();
+            }
+        }
+
+        return principalCache.get(username);
+    }
+
     private void sendUnauthorizedResponse(HttpServletResponse response, String message) throws IOException {
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
         response.setContentType("application/json; charset=UTF-8");
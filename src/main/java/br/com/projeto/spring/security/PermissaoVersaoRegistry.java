@@ -0,0 +1,101 @@
+package br.com.projeto.spring.security;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.projeto.spring.repository.UsuarioRepository;
+import br.com.projeto.spring.util.Util;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Mantém em memória a versão atual das permissões de cada usuário, usada para decidir se as
+ * permissões embutidas em um access token ainda são válidas. A fonte da verdade é a coluna
+ * {@code usuario.permissao_versao}; o TTL limita por quanto tempo outro nó pode enxergar uma versão
+ * antiga.
+ */
+@Component
+public class PermissaoVersaoRegistry {
+
+    public static final String NOME_CACHE = "permissaoVersao";
+
+    /** Valor usado quando o usuário não existe, nunca coincide com a versão de um token. */
+    public static final long USUARIO_INEXISTENTE = -1L;
+
+    private final UsuarioRepository repository;
+    private final Cache<String, Long> versoes;
+
+    public PermissaoVersaoRegistry(
+
+            UsuarioRepository repository,
+
+            MeterRegistry meterRegistry,
+
+            @Value("${app.security.stateless-authorization.maximum-size:10000}")
+            long maximumSize,
+
+            @Value("${app.security.stateless-authorization.versao-ttl:30s}")
+            Duration ttl
+
+    ) {
+        this.repository = repository;
+        this.versoes = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, versoes, NOME_CACHE);
+    }
+
+    /**
+     * Retorna a versão atual das permissões do usuário.
+     *
+     * @param username nome de usuário
+     * @return versão atual ou {@link #USUARIO_INEXISTENTE}
+     */
+    public long versaoAtual(String username) {
+        return versoes.get(username,
+                u -> repository.findPermissaoVersaoByUsername(u).orElse(USUARIO_INEXISTENTE));
+    }
+
+    /**
+     * Incrementa a versão das permissões do usuário e descarta a versão em memória.
+     *
+     * @param usuarioId identificador do usuário
+     * @param usernames usernames afetados (o atual e, se alterado, o anterior)
+     */
+    public void incrementar(Long usuarioId, String... usernames) {
+        repository.incrementarPermissaoVersao(usuarioId);
+        invalidar(usernames);
+    }
+
+    /**
+     * Descarta a versão em memória imediatamente e novamente ao término da transação corrente.
+     *
+     * @param usernames usernames afetados
+     */
+    public void invalidar(String... usernames) {
+        List<String> alvos = Arrays.stream(usernames).filter(u -> Util.preenchido(u)).distinct().toList();
+
+        if (alvos.isEmpty()) {
+            return;
+        }
+
+        versoes.invalidateAll(alvos);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    versoes.invalidateAll(alvos);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package br.com.projeto.spring.security;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Filtro de Bloom em memória com os hashes dos refresh tokens válidos (não revogados e não
+ * expirados). Permite rejeitar tokens certamente desconhecidos sem consultar a tabela
+ * {@code refresh_token}; um resultado positivo sempre segue para a consulta normal.
+ * <p>
+ * O filtro é reconstruído na inicialização e periodicamente (descartando revogados e expirados) e
+ * sincronizado em segundo plano com os tokens criados, em qualquer nó, dentro de uma janela de
+ * {@code created_at} anterior à última sincronização. A janela cobre o tempo entre o
+ * {@code created_at} e o commit e a diferença de relógio entre os nós. Nenhuma consulta é feita na
+ * thread da requisição, e nenhum lock é mantido durante o acesso ao banco.
+ * <p>
+ * Um miss rejeita o token somente se a última sincronização bem-sucedida começou há no máximo
+ * {@code defasagem-maxima}; com o filtro defasado (sincronização atrasada ou falhando) ou antes da
+ * primeira carga, o token segue para o banco. Tokens criados neste nó entram no filtro na hora;
+ * um token criado em outro nó só é reconhecido após a sincronização seguinte ao seu commit.
+ */
+@Component
+public class RefreshTokenFiltro {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenFiltro.class);
+
+    private static final String SQL_TOKENS_VALIDOS = "SELECT id, created_at, token_hash FROM refresh_token "
+            + "WHERE (created_at, id) > (?, ?) AND revoked = false AND expires_at > ? ORDER BY created_at, id LIMIT ?";
+
+    private static final int TAMANHO_LOTE = 5_000;
+
+    /** Filtro atual, o início da última sincronização bem-sucedida e o instante ({@code nanoTime}) dela. */
+    private record Estado(FiltroBloom filtro, Instant sincronizadoAte, long sincronizadoEm) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean habilitado;
+    private final long capacidade;
+    private final double taxaFalsoPositivo;
+    private final Duration janela;
+    private final long defasagemMaxima;
+
+    private final AtomicReference<Estado> estado = new AtomicReference<>();
+    private final Counter rejeitados;
+
+    public RefreshTokenFiltro(
+
+            JdbcTemplate jdbcTemplate,
+
+            MeterRegistry meterRegistry,
+
+            @Value("${app.security.refresh-token.filtro.enabled:true}")
+            boolean habilitado,
+
+            @Value("${app.security.refresh-token.filtro.capacidade:1000000}")
+            long capacidade,
+
+            @Value("${app.security.refresh-token.filtro.taxa-falso-positivo:0.01}")
+            double taxaFalsoPositivo,
+
+            @Value("${app.security.refresh-token.filtro.janela:1m}")
+            Duration janela,
+
+            @Value("${app.security.refresh-token.filtro.defasagem-maxima:5s}")
+            Duration defasagemMaxima
+
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.habilitado = habilitado;
+        this.capacidade = capacidade;
+        this.taxaFalsoPositivo = taxaFalsoPositivo;
+        this.janela = janela;
+        this.defasagemMaxima = defasagemMaxima.toNanos();
+
+        this.rejeitados = Counter.builder("refresh.token.filtro.rejeitados").register(meterRegistry);
+    }
+
+    /**
+     * Indica se o token pode existir. {@code false} garante que o hash não pertence a nenhum
+     * refresh token válido confirmado até a última sincronização.
+     *
+     * @param tokenHash hash HMAC do token (Base64 url-safe)
+     * @return {@code false} se o token certamente não existe
+     */
+    public boolean podeExistir(String tokenHash) {
+        Estado atual = estado.get();
+
+        if (atual == null || System.nanoTime() - atual.sincronizadoEm() > defasagemMaxima) {
+            return true;
+        }
+
+        long[] h = hashes(tokenHash);
+
+        if (h == null || atual.filtro().podeConter(h[0], h[1])) {
+            return true;
+        }
+
+        rejeitados.increment();
+        return false;
+    }
+
+    /**
+     * Adiciona o hash de um token recém-criado.
+     *
+     * @param tokenHash hash HMAC do token (Base64 url-safe)
+     */
+    public void adicionar(String tokenHash) {
+        Estado atual = estado.get();
+        long[] h = hashes(tokenHash);
+
+        if (atual != null && h != null) {
+            atual.filtro().adicionar(h[0], h[1]);
+        }
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.security.refresh-token.filtro.rebuild-interval:1h}")
+    public void reconstruir() {
+        if (!habilitado) {
+            return;
+        }
+
+        try {
+            long inicio = System.nanoTime();
+            Instant inicioCarga = Instant.now();
+            FiltroBloom novo = new FiltroBloom(capacidade, taxaFalsoPositivo);
+            long total = carregar(novo, Instant.EPOCH);
+
+            // Tokens criados durante a carga entram na sincronização seguinte, pela janela
+            estado.set(new Estado(novo, inicioCarga, inicio));
+
+            if (total > capacidade) {
+                log.warn("Filtro de refresh tokens com {} tokens acima da capacidade {}, taxa de falso positivo maior",
+                        total, capacidade);
+            }
+
+            log.info("Filtro de refresh tokens reconstruído: {} tokens, {} KiB", total, novo.tamanhoEmBytes() / 1024);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao reconstruir o filtro de refresh tokens", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.refresh-token.filtro.sync-interval:1s}")
+    public void sincronizar() {
+        Estado atual = estado.get();
+
+        if (atual == null) {
+            return;
+        }
+
+        try {
+            long inicio = System.nanoTime();
+            Instant inicioCarga = Instant.now();
+
+            carregar(atual.filtro(), atual.sincronizadoAte().minus(janela));
+
+            // Se uma reconstrução trocou o filtro nesse meio tempo, o estado dela prevalece
+            estado.compareAndSet(atual, new Estado(atual.filtro(), inicioCarga, inicio));
+        } catch (RuntimeException e) {
+            log.warn("Falha ao sincronizar o filtro de refresh tokens", e);
+        }
+    }
+
+    // Percorre por keyset (created_at, id) os tokens válidos criados a partir do instante informado
+    private long carregar(FiltroBloom destino, Instant aPartirDe) {
+        Timestamp agora = Timestamp.from(Instant.now());
+        Timestamp cursorCriacao = Timestamp.from(aPartirDe);
+        long cursorId = 0;
+        long total = 0;
+
+        while (true) {
+            long[] ultimoId = { -1 };
+            Timestamp[] ultimaCriacao = { null };
+            int[] lidos = { 0 };
+
+            jdbcTemplate.query(SQL_TOKENS_VALIDOS, rs -> {
+                long[] h = hashes(rs.getString(3));
+
+                if (h != null) {
+                    destino.adicionar(h[0], h[1]);
+                }
+
+                ultimoId[0] = rs.getLong(1);
+                ultimaCriacao[0] = rs.getTimestamp(2);
+                lidos[0]++;
+            }, cursorCriacao, cursorId, agora, TAMANHO_LOTE);
+
+            total += lidos[0];
+
+            if (lidos[0] < TAMANHO_LOTE) {
+                return total;
+            }
+
+            cursorCriacao = ultimaCriacao[0];
+            cursorId = ultimoId[0];
+        }
+    }
+
+    // O hash HMAC já é uniforme: os dois primeiros longs bastam para o hashing duplo
+    private static long[] hashes(String tokenHash) {
+        try {
+            ByteBuffer bytes = ByteBuffer.wrap(Base64.getUrlDecoder().decode(tokenHash));
+
+            if (bytes.remaining() < 16) {
+                return null;
+            }
+
+            return new long[] { bytes.getLong(), bytes.getLong() | 1L };
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
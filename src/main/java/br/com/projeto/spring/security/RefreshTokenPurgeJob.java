@@ -0,0 +1,152 @@
+package br.com.projeto.spring.security;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Remove periodicamente os refresh tokens revogados ou expirados. A remoção é feita em lotes
+ * limitados, percorrendo a tabela por id (keyset), cada lote em sua própria transação e com uma
+ * pausa entre eles para não disputar I/O e locks com as requisições.
+ * <p>
+ * Apenas um nó remove por vez: a execução obtém um advisory lock de sessão
+ * ({@code pg_try_advisory_lock}) e, se outro nó já o detém, é pulada. O lock é obtido, usado e
+ * liberado na mesma conexão, mantida durante toda a remoção.
+ */
+@Component
+public class RefreshTokenPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenPurgeJob.class);
+
+    private static final String SQL_REMOVER_LOTE = "DELETE FROM refresh_token WHERE id IN ("
+            + "SELECT id FROM refresh_token WHERE id > ? AND (revoked = true OR expires_at < ?) ORDER BY id LIMIT ?"
+            + ") RETURNING id";
+
+    // Estimativa mantida pelo autovacuum/ANALYZE, sem o custo de um count(*); a tabela é resolvida
+    // pelo search_path, como nas consultas da aplicação
+    private static final String SQL_ESTIMATIVA_LINHAS =
+            "SELECT GREATEST(reltuples, 0)::bigint FROM pg_class WHERE oid = to_regclass(?)";
+
+    private static final String SQL_OBTER_LOCK = "SELECT pg_try_advisory_lock(?)";
+    private static final String SQL_LIBERAR_LOCK = "SELECT pg_advisory_unlock(?)";
+
+    // Chave do advisory lock da remoção, compartilhada por todos os nós
+    private static final long CHAVE_LOCK = 0x5265_6672_5075_7267L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int tamanhoLote;
+    private final Duration pausa;
+    private final Duration retencao;
+
+    private final Counter removidos;
+    private final AtomicLong linhasEstimadas = new AtomicLong();
+
+    public RefreshTokenPurgeJob(
+
+            JdbcTemplate jdbcTemplate,
+
+            MeterRegistry meterRegistry,
+
+            @Value("${app.security.refresh-token.purge.batch-size:1000}")
+            int tamanhoLote,
+
+            @Value("${app.security.refresh-token.purge.pause:200ms}")
+            Duration pausa,
+
+            @Value("${app.security.refresh-token.purge.retencao:0s}")
+            Duration retencao
+
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tamanhoLote = tamanhoLote;
+        this.pausa = pausa;
+        this.retencao = retencao;
+
+        this.removidos = Counter.builder("refresh.token.purge.removidos").register(meterRegistry);
+        Gauge.builder("refresh.token.linhas", linhasEstimadas, AtomicLong::get).register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${app.security.refresh-token.purge.initial-delay:1m}",
+            fixedDelayString = "${app.security.refresh-token.purge.interval:1h}")
+    public void purgar() {
+        try {
+            Boolean executado = jdbcTemplate.execute((ConnectionCallback<Boolean>) conexao -> {
+                JdbcTemplate sessao = new JdbcTemplate(new SingleConnectionDataSource(conexao, true));
+
+                if (!Boolean.TRUE.equals(sessao.queryForObject(SQL_OBTER_LOCK, Boolean.class, CHAVE_LOCK))) {
+                    return false;
+                }
+
+                try {
+                    remover(sessao);
+                } finally {
+                    sessao.queryForObject(SQL_LIBERAR_LOCK, Boolean.class, CHAVE_LOCK);
+                }
+
+                return true;
+            });
+
+            if (!Boolean.TRUE.equals(executado)) {
+                log.debug("Remoção de refresh tokens em execução em outro nó");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao remover refresh tokens revogados ou expirados", e);
+        }
+
+        atualizarEstimativaLinhas();
+    }
+
+    private void remover(JdbcTemplate sessao) {
+        Timestamp expiradosAntesDe = Timestamp.from(Instant.now().minus(retencao));
+        long cursor = 0;
+        long total = 0;
+
+        try {
+            while (true) {
+                // Cada DELETE executa fora de transação da aplicação, ou seja, confirmado por lote
+                List<Long> ids =
+                        sessao.queryForList(SQL_REMOVER_LOTE, Long.class, cursor, expiradosAntesDe, tamanhoLote);
+
+                total += ids.size();
+                removidos.increment(ids.size());
+
+                if (ids.size() < tamanhoLote) {
+                    break;
+                }
+
+                cursor = ids.stream().mapToLong(Long::longValue).max().getAsLong();
+                Thread.sleep(pausa.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (total > 0) {
+                log.info("Removidos {} refresh token(s) revogados ou expirados", total);
+            }
+        }
+    }
+
+    private void atualizarEstimativaLinhas() {
+        try {
+            Long linhas = jdbcTemplate.queryForObject(SQL_ESTIMATIVA_LINHAS, Long.class, "refresh_token");
+            linhasEstimadas.set(linhas == null ? 0 : linhas);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao estimar o tamanho da tabela refresh_token", e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.projeto.spring.security;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Buffer write-behind do {@code last_used_at} dos refresh tokens. Cada uso registra apenas o
+ * instante mais recente por token em memória, e os registros são gravados em lote periodicamente e
+ * no desligamento da aplicação. O intervalo de flush é o atraso máximo com que o valor chega ao
+ * banco.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenUltimoUsoBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenUltimoUsoBuffer.class);
+
+    // Nunca retrocede o valor gravado, mesmo que outro nó tenha gravado um uso mais recente
+    private static final String SQL_ATUALIZAR = "UPDATE refresh_token SET last_used_at = ? "
+            + "WHERE id = ? AND (last_used_at IS NULL OR last_used_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, Instant> pendentes = new ConcurrentHashMap<>();
+
+    /**
+     * Registra o uso do token, mantendo apenas o instante mais recente.
+     *
+     * @param tokenId identificador do refresh token
+     * @param instante instante do uso
+     */
+    public void registrar(Long tokenId, Instant instante) {
+        pendentes.merge(tokenId, instante, (atual, novo) -> novo.isAfter(atual) ? novo : atual);
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.refresh-token.last-used-flush-interval:30s}")
+    public void flush() {
+        if (pendentes.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> lote = new ArrayList<>(pendentes.size());
+
+        // remove(chave, valor) preserva usos registrados durante o flush para o próximo ciclo
+        pendentes.forEach((id, instante) -> {
+            if (pendentes.remove(id, instante)) {
+                Timestamp ts = Timestamp.from(instante);
+                lote.add(new Object[] { ts, id, ts });
+            }
+        });
+
+        try {
+            jdbcTemplate.batchUpdate(SQL_ATUALIZAR, lote);
+        } catch (RuntimeException e) {
+            lote.forEach(args -> registrar((Long) args[1], ((Timestamp) args[0]).toInstant()));
+            log.warn("Falha ao gravar last_used_at de {} refresh token(s), nova tentativa no próximo ciclo",
+                    lote.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        flush();
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.projeto.spring.security;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.projeto.spring.util.Util;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache limitado dos principais autenticados, indexado pelo username. Evita que o
+ * {@link JwtAuthenticationFilter} consulte usuário, grupos e permissões no banco a cada requisição.
+ * As entradas expiram pelo TTL configurado e são invalidadas explicitamente quando o usuário é
+ * alterado.
+ */
+@Component
+public class UsuarioPrincipalCache {
+
+    public static final String NOME_CACHE = "usuarioPrincipal";
+
+    private final UserDetailsService userDetailsService;
+    private final Cache<String, UserDetails> cache;
+
+    public UsuarioPrincipalCache(
+
+            UserDetailsService userDetailsService,
+
+            MeterRegistry meterRegistry,
+
+            @Value("${app.security.principal-cache.maximum-size:10000}")
+            long maximumSize,
+
+            @Value("${app.security.principal-cache.ttl:5m}")
+            Duration ttl
+
+    ) {
+        this.userDetailsService = userDetailsService;
+        this.cache = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NOME_CACHE);
+    }
+
+    /**
+     * Retorna o principal do usuário, carregando do banco apenas em caso de miss.
+     *
+     * @param username nome de usuário
+     * @return UserDetails sem credenciais
+     */
+    public UserDetails get(String username) {
+        return cache.get(username, this::carregar);
+    }
+
+    /**
+     * Invalida imediatamente e novamente ao término da transação corrente, evitando que uma leitura
+     * concorrente recoloque no cache o estado anterior ao commit.
+     *
+     * @param usernames usernames afetados
+     */
+    public void invalidar(String... usernames) {
+        List<String> alvos = Arrays.stream(usernames).filter(u -> Util.preenchido(u)).distinct().toList();
+
+        if (alvos.isEmpty()) {
+            return;
+        }
+
+        cache.invalidateAll(alvos);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(alvos);
+                }
+            });
+        }
+    }
+
+    private UserDetails carregar(String username) {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+
+        // A senha não é necessária para autorizar requisições e não deve ficar retida no cache
+        return User.withUsername(userDetails.getUsername()).password("").authorities(userDetails.getAuthorities())
+                .accountExpired(!userDetails.isAccountNonExpired()).accountLocked(!userDetails.isAccountNonLocked())
+                .credentialsExpired(!userDetails.isCredentialsNonExpired()).disabled(!userDetails.isEnabled())
+                .build();
+    }
+}
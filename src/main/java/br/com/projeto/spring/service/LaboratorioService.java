@@ -3,14 +3,19 @@ package br.com.projeto.spring.service;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import br.com.projeto.spring.domain.dto.request.laboratorio.LaboratorioRequest;
 import br.com.projeto.spring.domain.dto.request.laboratorio.LaboratorioUpdateRequest;
+import br.com.projeto.spring.domain.dto.response.CursorPageResponse;
+import br.com.projeto.spring.domain.dto.response.ExclusaoEmLoteResponse;
 import br.com.projeto.spring.domain.dto.response.PageResponse;
+import br.com.projeto.spring.domain.dto.response.SliceResponse;
 import br.com.projeto.spring.domain.dto.response.laboratorio.LaboratorioResponse;
 import br.com.projeto.spring.domain.dto.response.remedio.RemedioResponse;
 import br.com.projeto.spring.exception.EntityInUseException;
 import br.com.projeto.spring.exception.ResourceNotFoundException;
+import br.com.projeto.spring.repository.projection.VersaoListagem;
 
 /**
  * Serviço responsável pelas operações relacionadas à entidade Laboratório.
@@ -34,6 +39,14 @@ public interface LaboratorioService {
      */
     PageResponse<LaboratorioResponse> listarLaboratorios(Pageable paginacao);
 
+    /**
+     * Lista os laboratórios de forma paginada, sem o total de registros.
+     *
+     * @param paginacao informações de paginação
+     * @return SliceResponse contendo a lista de laboratórios
+     */
+    SliceResponse<LaboratorioResponse> listarLaboratoriosSemTotal(Pageable paginacao);
+
     /**
      * Lista os remédios de um laboratório específico de forma paginada.
      *
@@ -43,6 +56,43 @@ public interface LaboratorioService {
      */
     PageResponse<RemedioResponse> listarRemediosPorLaboratorio(Long id, Pageable paginacao);
 
+    /**
+     * Lista os laboratórios por cursor (keyset), sem contagem total e com custo constante por página.
+     *
+     * @param cursor cursor da página anterior (vazio na primeira página)
+     * @param sort ordenação da primeira página; nas seguintes prevalece a do cursor
+     * @param tamanhoPagina tamanho da página
+     * @return CursorPageResponse com os laboratórios e o cursor da próxima página
+     */
+    CursorPageResponse<LaboratorioResponse> listarLaboratoriosPorCursor(String cursor, Sort sort, int tamanhoPagina);
+
+    /**
+     * Lista os remédios de um laboratório por cursor (keyset).
+     *
+     * @param id ID do laboratório
+     * @param cursor cursor da página anterior (vazio na primeira página)
+     * @param sort ordenação da primeira página; nas seguintes prevalece a do cursor
+     * @param tamanhoPagina tamanho da página
+     * @return CursorPageResponse com os remédios do laboratório e o cursor da próxima página
+     */
+    CursorPageResponse<RemedioResponse> listarRemediosPorLaboratorioPorCursor(Long id, String cursor, Sort sort,
+            int tamanhoPagina);
+
+    /**
+     * Calcula a versão atual da listagem de laboratórios, usada como ETag das páginas.
+     *
+     * @return quantidade de laboratórios e a maior data de alteração
+     */
+    VersaoListagem buscarVersaoLaboratorios();
+
+    /**
+     * Calcula a versão atual da listagem de remédios de um laboratório, usada como ETag das páginas.
+     *
+     * @param id ID do laboratório
+     * @return quantidade de remédios do laboratório e a maior data de alteração
+     */
+    VersaoListagem buscarVersaoRemediosPorLaboratorio(Long id);
+
     /**
      * Cria um novo laboratório.
      *
@@ -87,9 +137,11 @@ public interface LaboratorioService {
      * Deleta vários laboratórios em lote.
      *
      * @param ids lista de IDs dos laboratórios
+     * @return quantidade de laboratórios excluídos
      * @throws ResourceNotFoundException se algum laboratório não for encontrado
      * @throws EntityInUseException se algum laboratório possuir entidades relacionadas e não puder ser
      *         excluído
      */
-    void deletarLaboratorioEmLote(List<Long> ids) throws ResourceNotFoundException, EntityInUseException;
+    ExclusaoEmLoteResponse deletarLaboratorioEmLote(List<Long> ids)
+            throws ResourceNotFoundException, EntityInUseException;
 }
@@ -3,11 +3,15 @@ package br.com.projeto.spring.service;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import br.com.projeto.spring.domain.dto.request.remedio.RemedioRequest;
+import br.com.projeto.spring.domain.dto.response.CursorPageResponse;
 import br.com.projeto.spring.domain.dto.response.PageResponse;
+import br.com.projeto.spring.domain.dto.response.SliceResponse;
 import br.com.projeto.spring.domain.dto.response.remedio.RemedioResponse;
 import br.com.projeto.spring.exception.ResourceNotFoundException;
+import br.com.projeto.spring.repository.projection.VersaoListagem;
 
 public interface RemedioService {
 
@@ -46,6 +50,31 @@ public interface RemedioService {
      */
     PageResponse<RemedioResponse> listarRemedios(Pageable paginacao);
 
+    /**
+     * Lista os remédios com paginação, sem o total de registros.
+     *
+     * @param paginacao informações de paginação.
+     * @return Fatia de DTOs de resposta de remédio.
+     */
+    SliceResponse<RemedioResponse> listarRemediosSemTotal(Pageable paginacao);
+
+    /**
+     * Lista os remédios por cursor (keyset), sem contagem total e com custo constante por página.
+     *
+     * @param cursor cursor da página anterior (vazio na primeira página).
+     * @param sort ordenação da primeira página; nas seguintes prevalece a do cursor.
+     * @param tamanhoPagina tamanho da página.
+     * @return Página de DTOs de resposta de remédio com o cursor da próxima página.
+     */
+    CursorPageResponse<RemedioResponse> listarRemediosPorCursor(String cursor, Sort sort, int tamanhoPagina);
+
+    /**
+     * Calcula a versão atual da listagem de remédios, usada como ETag das páginas.
+     *
+     * @return quantidade de remédios e a maior data de alteração
+     */
+    VersaoListagem buscarVersaoRemedios();
+
     /**
      * Atualiza um remédio existente.
      *
@@ -14,7 +14,7 @@ public interface TokenService {
 
     void revokeRefreshToken(String rawToken) throws AuthenticationException;
 
-    void revokeAllForUser(String username);
+    int revokeAllForUser(String username);
 
     List<RefreshToken> findActiveTokensForUser(String username);
 
@@ -1,12 +1,15 @@
 package br.com.projeto.spring.service;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
 
 import br.com.projeto.spring.domain.dto.request.usuario.UsuarioRequest;
 import br.com.projeto.spring.domain.dto.request.usuario.UsuarioUpdateRequest;
+import br.com.projeto.spring.domain.dto.response.CursorPageResponse;
 import br.com.projeto.spring.domain.dto.response.PageResponse;
+import br.com.projeto.spring.domain.dto.response.SliceResponse;
 import br.com.projeto.spring.domain.dto.response.usuario.UsuarioResponse;
 import br.com.projeto.spring.exception.ResourceNotFoundException;
 
@@ -19,6 +22,10 @@ public interface UsuarioService {
 
     PageResponse<UsuarioResponse> listarUsuarios(Pageable paginacao);
 
+    SliceResponse<UsuarioResponse> listarUsuariosSemTotal(Pageable paginacao);
+
+    CursorPageResponse<UsuarioResponse> listarUsuariosPorCursor(String cursor, Sort sort, int tamanhoPagina);
+
     UsuarioResponse atualizarUsuario(Long id, UsuarioUpdateRequest request)
             throws AuthenticationException, AccessDeniedException, ResourceNotFoundException;
 
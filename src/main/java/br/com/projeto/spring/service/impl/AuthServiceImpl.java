@@ -15,6 +15,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import br.com.projeto.spring.cache.CacheGeracoes;
+import br.com.projeto.spring.cache.CacheInvalidator;
 import br.com.projeto.spring.domain.dto.request.LoginRequest;
 import br.com.projeto.spring.domain.dto.request.auth.RegisterRequest;
 import br.com.projeto.spring.domain.dto.response.auth.AuthResponse;
@@ -51,6 +53,7 @@ public class AuthServiceImpl implements AuthService {
     private final AuthValidator validator;
     private final PasswordEncoder passwordEncoder;
     private final UsuarioRepository usuarioRepository;
+    private final CacheInvalidator cacheInvalidator;
 
     @Override
     @Transactional
@@ -59,13 +62,19 @@ public class AuthServiceImpl implements AuthService {
         Usuario usuario = mapperAuth.toEntityRegister(request, passwordEncoder);
         validator.validarCadastro(usuario);
         usuarioRepository.save(usuario);
+        cacheInvalidator.invalidar(CacheGeracoes.USUARIOS);
 
         RegisterResponse response = mapperAuth.toResponseRegister(usuario);
         return response;
     }
 
+    /**
+     * Sem transação: a verificação da senha espera no pool limitado de hash e não deve reter uma
+     * conexão do banco (o endpoint também fica fora do Open EntityManager in View, ver
+     * {@code WebConfig}). Cada consulta usa a transação do repositório, e o refresh token é gravado
+     * na transação curta de {@link TokenService#createRefreshToken}.
+     */
     @Override
-    @Transactional
     public AuthResponse login(LoginRequest request, HttpServletRequest req) throws AccessDeniedException {
 
         String username = request.username();
@@ -78,8 +87,11 @@ public class AuthServiceImpl implements AuthService {
             throw new AccessDeniedException(msgErro) {};
         }
 
-        AuthUsuarioResponse usuario = getUsuarioAutenticado(username);
-        String accessToken = jwtUtil.generateAccessToken(username);
+        Usuario usuarioBanco = getUsuario(username);
+        List<String> permissoes = getPermissoesUsuario(usuarioBanco);
+
+        AuthUsuarioResponse usuario = mapperAuth.userToResponse(usuarioBanco, permissoes);
+        String accessToken = gerarAccessToken(usuarioBanco, permissoes);
 
         long ttlSeconds = request.rememberMe() ? Duration.ofDays(15).getSeconds() : Duration.ofHours(12).getSeconds();
         String userIpAddress = extractClientIp(req);
@@ -101,8 +113,11 @@ public class AuthServiceImpl implements AuthService {
 
         var username = oldToken.getUsername();
 
-        AuthUsuarioResponse usuario = getUsuarioAutenticado(username);
-        String newAccessToken = jwtUtil.generateAccessToken(username);
+        Usuario usuarioBanco = getUsuario(username);
+        List<String> permissoes = getPermissoesUsuario(usuarioBanco);
+
+        AuthUsuarioResponse usuario = mapperAuth.userToResponse(usuarioBanco, permissoes);
+        String newAccessToken = gerarAccessToken(usuarioBanco, permissoes);
 
         AuthResponse response = new AuthResponse(newAccessToken, null, "Bearer", usuario);
 
@@ -144,14 +159,23 @@ public class AuthServiceImpl implements AuthService {
     }
 
     private AuthUsuarioResponse getUsuarioAutenticado(String username) throws ResourceNotFoundException {
-        Usuario usuario = usuarioRepository.findByUsernameWithPermissoesAndGrupos(username)
-                .orElseThrow(() -> new ResourceNotFoundException(ValidationMessagesKeys.USUARIO_NAO_ENCONTRADO) {});
+        Usuario usuario = getUsuario(username);
 
         List<String> permissoes = getPermissoesUsuario(usuario);
 
         return mapperAuth.userToResponse(usuario, permissoes);
     }
 
+    private Usuario getUsuario(String username) throws ResourceNotFoundException {
+        return usuarioRepository.findByUsernameWithPermissoesAndGrupos(username)
+                .orElseThrow(() -> new ResourceNotFoundException(ValidationMessagesKeys.USUARIO_NAO_ENCONTRADO) {});
+    }
+
+    // Embute as permissões e a versão delas no token (usadas apenas com a autorização stateless)
+    private String gerarAccessToken(Usuario usuario, List<String> permissoes) {
+        return jwtUtil.generateAccessToken(usuario.getUsername(), permissoes, usuario.getPermissaoVersao());
+    }
+
     private String extractClientIp(HttpServletRequest request) {
         String xf = request.getHeader("X-Forwarded-For");
 
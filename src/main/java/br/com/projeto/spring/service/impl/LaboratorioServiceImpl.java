@@ -1,19 +1,30 @@
 package br.com.projeto.spring.service.impl;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import br.com.projeto.spring.cache.CacheGeracoes;
+import br.com.projeto.spring.cache.CacheInvalidator;
+import br.com.projeto.spring.cache.ContagemCache;
 import br.com.projeto.spring.domain.dto.request.laboratorio.LaboratorioRequest;
 import br.com.projeto.spring.domain.dto.request.laboratorio.LaboratorioUpdateRequest;
+import br.com.projeto.spring.domain.dto.response.CursorPageResponse;
+import br.com.projeto.spring.domain.dto.response.ExclusaoEmLoteResponse;
 import br.com.projeto.spring.domain.dto.response.PageResponse;
+import br.com.projeto.spring.domain.dto.response.SliceResponse;
 import br.com.projeto.spring.domain.dto.response.laboratorio.LaboratorioResponse;
 import br.com.projeto.spring.domain.dto.response.remedio.RemedioResponse;
 import br.com.projeto.spring.domain.model.Laboratorio;
@@ -22,10 +33,17 @@ import br.com.projeto.spring.exception.ResourceNotFoundException;
 import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
 import br.com.projeto.spring.mapper.LaboratorioMapper;
 import br.com.projeto.spring.mapper.RemedioMapper;
+import br.com.projeto.spring.repository.ConsultaPorCursor;
 import br.com.projeto.spring.repository.LaboratorioRepository;
+import br.com.projeto.spring.repository.PersistenciaEmLote;
 import br.com.projeto.spring.repository.RemedioRepository;
+import br.com.projeto.spring.repository.projection.LaboratorioNome;
+import br.com.projeto.spring.repository.projection.RemedioResumo;
+import br.com.projeto.spring.repository.projection.VersaoListagem;
 import br.com.projeto.spring.service.LaboratorioService;
+import br.com.projeto.spring.util.OrdenacaoPermitida;
 import br.com.projeto.spring.util.Util;
+import br.com.projeto.spring.util.UtilCursor;
 import br.com.projeto.spring.validation.LaboratorioValidator;
 import lombok.RequiredArgsConstructor;
 
@@ -40,6 +58,10 @@ public class LaboratorioServiceImpl implements LaboratorioService {
     private final RemedioMapper remedioMapper;
 
     private final LaboratorioValidator validator;
+    private final CacheInvalidator cacheInvalidator;
+    private final ContagemCache contagens;
+    private final PersistenciaEmLote persistenciaEmLote;
+    private final ConsultaPorCursor consultaPorCursor;
 
     @Override
     /**
@@ -50,7 +72,7 @@ public class LaboratorioServiceImpl implements LaboratorioService {
      * @throws ResourceNotFoundException se o laboratório não for encontrado
      */
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "laboratorio", keyGenerator = "customKeyGenerator")
+    @Cacheable(cacheNames = "laboratorio", keyGenerator = "customKeyGenerator", sync = true)
     public LaboratorioResponse buscarLaboratorioPorId(Long id) {
 
         Laboratorio laboratorio = repository.findById(id)
@@ -67,13 +89,31 @@ public class LaboratorioServiceImpl implements LaboratorioService {
      * @return PageResponse contendo a lista de laboratórios
      */
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "laboratorioPages", keyGenerator = "customKeyGenerator")
+    @Cacheable(cacheNames = "laboratorioPages", keyGenerator = "customKeyGenerator", sync = true)
     public PageResponse<LaboratorioResponse> listarLaboratorios(Pageable pageable) {
 
-        Page<Laboratorio> page = repository.findAll(pageable);
+        Slice<Laboratorio> slice = repository.findSliceBy(pageable);
+        Page<Laboratorio> page = PageableExecutionUtils.getPage(slice.getContent(), pageable,
+                () -> contagens.contarTabela(CacheGeracoes.LABORATORIOS, "laboratorio", repository::count));
+
         return Util.toPageResponse(page, mapper::toResponse);
     }
 
+    @Override
+    /**
+     * Lista os laboratórios de forma paginada, sem o total de registros.
+     *
+     * @param pageable informações de paginação
+     * @return SliceResponse contendo a lista de laboratórios
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "laboratorioPages", keyGenerator = "customKeyGenerator", sync = true)
+    public SliceResponse<LaboratorioResponse> listarLaboratoriosSemTotal(Pageable pageable) {
+
+        Slice<Laboratorio> slice = repository.findSliceBy(pageable);
+        return Util.toSliceResponse(slice, mapper::toResponse);
+    }
+
     @Override
     /**
      * Lista os remédios de um laboratório específico de forma paginada.
@@ -83,13 +123,84 @@ public class LaboratorioServiceImpl implements LaboratorioService {
      * @return PageResponse contendo a lista de remédios do laboratório
      */
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "laboratorioRemedios", keyGenerator = "customKeyGenerator")
+    @Cacheable(cacheNames = "laboratorioRemedios", keyGenerator = "customKeyGenerator", sync = true)
     public PageResponse<RemedioResponse> listarRemediosPorLaboratorio(Long laboratorioId, Pageable paginacao) {
 
-        Page<Remedio> page = remedioRepository.findByLaboratorioId(laboratorioId, paginacao);
+        Slice<RemedioResumo> slice = remedioRepository.listarResumosPorLaboratorio(laboratorioId, paginacao);
+        Page<RemedioResumo> page = PageableExecutionUtils.getPage(slice.getContent(), paginacao,
+                () -> contagens.contar(CacheGeracoes.remediosDoLaboratorio(laboratorioId),
+                        () -> remedioRepository.countByLaboratorioId(laboratorioId)));
+
         return Util.toPageResponse(page, remedioMapper::toResponse);
     }
 
+    @Override
+    /**
+     * Lista os laboratórios por cursor (keyset).
+     *
+     * @param cursor cursor da página anterior (vazio na primeira página)
+     * @param sort ordenação da primeira página; nas seguintes prevalece a do cursor
+     * @param tamanhoPagina tamanho da página
+     * @return CursorPageResponse com os laboratórios e o cursor da próxima página
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<LaboratorioResponse> listarLaboratoriosPorCursor(String cursor, Sort sort,
+            int tamanhoPagina) {
+
+        UtilCursor.Posicao posicao = UtilCursor.decodificar(cursor, sort, OrdenacaoPermitida.LABORATORIO);
+
+        Window<Laboratorio> janela = consultaPorCursor.buscar(Laboratorio.class, posicao, tamanhoPagina);
+
+        return Util.toCursorPageResponse(janela, posicao.sort(), tamanhoPagina, mapper::toResponse);
+    }
+
+    @Override
+    /**
+     * Lista os remédios de um laboratório por cursor (keyset), com o laboratório no mesmo select.
+     *
+     * @param id ID do laboratório
+     * @param cursor cursor da página anterior (vazio na primeira página)
+     * @param sort ordenação da primeira página; nas seguintes prevalece a do cursor
+     * @param tamanhoPagina tamanho da página
+     * @return CursorPageResponse com os remédios do laboratório e o cursor da próxima página
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<RemedioResponse> listarRemediosPorLaboratorioPorCursor(Long id, String cursor,
+            Sort sort, int tamanhoPagina) {
+
+        UtilCursor.Posicao posicao = UtilCursor.decodificar(cursor, sort, OrdenacaoPermitida.REMEDIO_POR_LABORATORIO);
+
+        Window<Remedio> janela = consultaPorCursor.buscar(Remedio.class, "laboratorio", "e.laboratorio.id = :id",
+                Map.of("id", id), posicao, tamanhoPagina);
+
+        return Util.toCursorPageResponse(janela, posicao.sort(), tamanhoPagina, remedioMapper::toResponse);
+    }
+
+    @Override
+    /**
+     * Calcula a versão atual da listagem de laboratórios. A consulta só é refeita após alterações em
+     * laboratórios.
+     *
+     * @return quantidade de laboratórios e a maior data de alteração
+     */
+    @Transactional(readOnly = true)
+    public VersaoListagem buscarVersaoLaboratorios() {
+        return contagens.versao(repository::buscarVersao, CacheGeracoes.LABORATORIOS);
+    }
+
+    @Override
+    /**
+     * Calcula a versão atual da listagem de remédios de um laboratório.
+     *
+     * @param id ID do laboratório
+     * @return quantidade de remédios do laboratório e a maior data de alteração
+     */
+    @Transactional(readOnly = true)
+    public VersaoListagem buscarVersaoRemediosPorLaboratorio(Long id) {
+        return contagens.versao(() -> remedioRepository.buscarVersaoPorLaboratorio(id),
+                CacheGeracoes.remediosDoLaboratorio(id));
+    }
+
     @Override
     @Transactional
     /**
@@ -99,15 +210,15 @@ public class LaboratorioServiceImpl implements LaboratorioService {
      * @return LaboratorioResponse com os dados do laboratório criado
      * @throws IllegalArgumentException se houver erro de validação
      */
-    @Caching(evict = { @CacheEvict(cacheNames = { "laboratorioPages", "laboratorioRemedios" }, allEntries = true) },
-            put = { @CachePut(cacheNames = "laboratorio", keyGenerator = "customKeyGenerator",
-                    condition = "#result != null && #result.id() != null") })
     public LaboratorioResponse cadastrarLaboratorio(LaboratorioRequest request) throws IllegalArgumentException {
 
         Laboratorio laboratorio = mapper.toEntity(request);
         validator.validarCadastro(laboratorio);
         repository.save(laboratorio);
 
+        // Um laboratório novo não tem remédios: apenas a listagem de laboratórios muda
+        cacheInvalidator.invalidar(CacheGeracoes.LABORATORIOS);
+
         return mapper.toResponse(laboratorio);
     }
 
@@ -120,13 +231,14 @@ public class LaboratorioServiceImpl implements LaboratorioService {
      * @return lista de LaboratorioResponse com os laboratórios criados
      * @throws IllegalArgumentException se houver erro de validação
      */
-    @CacheEvict(cacheNames = { "laboratorioPages", "laboratorioRemedios" }, allEntries = true)
     public List<LaboratorioResponse> cadastrarLaboratorioEmLote(List<LaboratorioRequest> request)
             throws IllegalArgumentException {
 
         List<Laboratorio> laboratorios = request.stream().map(mapper::toEntity).toList();
         validator.validarCadastro(laboratorios);
-        repository.saveAll(laboratorios);
+        persistenciaEmLote.inserir(laboratorios);
+
+        cacheInvalidator.invalidar(CacheGeracoes.LABORATORIOS);
 
         return laboratorios.stream().map(mapper::toResponse).toList();
     }
@@ -141,18 +253,27 @@ public class LaboratorioServiceImpl implements LaboratorioService {
      * @return LaboratorioResponse com os dados atualizados
      * @throws ResourceNotFoundException se o laboratório não for encontrado
      */
-    @CacheEvict(cacheNames = { "laboratorioPages", "laboratorioRemedios" }, allEntries = true)
-    @CachePut(cacheNames = "laboratorio", keyGenerator = "customKeyGenerator")
     public LaboratorioResponse atualizarLaboratorio(Long id, LaboratorioUpdateRequest request)
             throws ResourceNotFoundException {
 
         Laboratorio laboratorio = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ValidationMessagesKeys.LABORATORIO_NAO_ENCONTRADO));
 
+        String nomeAnterior = laboratorio.getNome();
+
         mapper.updateEntity(laboratorio, request);
         validator.validarAtualizacao(laboratorio);
         repository.save(laboratorio);
 
+        // O resumo do laboratório exibido nos remédios em cache contém apenas o nome: as demais
+        // alterações não afetam os remédios
+        if (Objects.equals(nomeAnterior, laboratorio.getNome())) {
+            cacheInvalidator.invalidar(CacheGeracoes.LABORATORIOS, CacheGeracoes.laboratorio(id));
+        } else {
+            cacheInvalidator.invalidar(CacheGeracoes.RESUMO_LABORATORIOS);
+            invalidarCaches(List.of(id));
+        }
+
         return mapper.toResponse(laboratorio);
     }
 
@@ -165,8 +286,6 @@ public class LaboratorioServiceImpl implements LaboratorioService {
      * @throws ResourceNotFoundException se o laboratório não for encontrado
      * @throws EntityInUseException se não for possível excluir por possuir entidades relacionadas
      */
-    @Caching(evict = { @CacheEvict(cacheNames = "laboratorio", keyGenerator = "customKeyGenerator"),
-            @CacheEvict(cacheNames = { "laboratorioPages", "laboratorioRemedios" }, allEntries = true) })
     public void deletarLaboratorio(Long id) throws ResourceNotFoundException, IllegalArgumentException {
 
         Laboratorio laboratorio = repository.findById(id)
@@ -174,6 +293,8 @@ public class LaboratorioServiceImpl implements LaboratorioService {
 
         validator.validarExclusao(laboratorio, id);
         repository.delete(laboratorio);
+
+        invalidarCaches(List.of(id));
     }
 
     @Override
@@ -182,13 +303,43 @@ public class LaboratorioServiceImpl implements LaboratorioService {
      * Deleta vários laboratórios em lote.
      *
      * @param ids lista de IDs dos laboratórios
+     * @return quantidade de laboratórios excluídos
      * @throws ResourceNotFoundException se algum laboratório não for encontrado
      * @throws EntityInUseException se não for possível excluir por possuir entidades relacionadas
      */
-    @CacheEvict(cacheNames = { "laboratorio", "laboratorioPages", "laboratorioRemedios" }, allEntries = true)
-    public void deletarLaboratorioEmLote(List<Long> ids) throws ResourceNotFoundException, IllegalArgumentException {
-        List<Laboratorio> laboratorios = repository.findAllById(ids);
-        validator.validarExclusao(laboratorios, ids);
-        repository.deleteAll(laboratorios);
+    public ExclusaoEmLoteResponse deletarLaboratorioEmLote(List<Long> ids)
+            throws ResourceNotFoundException, IllegalArgumentException {
+
+        List<Long> distintos = ids.stream().distinct().toList();
+
+        if (distintos.isEmpty()) {
+            return new ExclusaoEmLoteResponse(0);
+        }
+
+        // Validação e exclusão sem carregar as entidades: um SELECT de id e nome, a verificação de
+        // remédios em uso e um único DELETE
+        Map<Long, String> nomes = repository.buscarNomes(distintos).stream()
+                .collect(Collectors.toMap(LaboratorioNome::id, LaboratorioNome::nome));
+
+        validator.validarExclusaoPorId(nomes, distintos);
+        int excluidos = repository.deletarPorIds(distintos.toArray(Long[]::new));
+
+        invalidarCaches(distintos);
+        return new ExclusaoEmLoteResponse(excluidos);
+    }
+
+    // Alterações em laboratórios existentes afetam a listagem de laboratórios, o laboratório por ID e
+    // as páginas de remédios do próprio laboratório (que exibem seu resumo). O laboratório por ID é
+    // invalidado pela geração, como o remédio: uma leitura iniciada antes do commit grava o valor
+    // antigo sob a geração anterior, que nenhuma leitura posterior consulta
+    private void invalidarCaches(List<Long> ids) {
+        List<String> escopos = new ArrayList<>();
+        escopos.add(CacheGeracoes.LABORATORIOS);
+        ids.forEach(id -> {
+            escopos.add(CacheGeracoes.laboratorio(id));
+            escopos.add(CacheGeracoes.remediosDoLaboratorio(id));
+        });
+
+        cacheInvalidator.invalidar(escopos.toArray(String[]::new));
     }
 }
@@ -1,24 +1,46 @@
 package br.com.projeto.spring.service.impl;
 
 import java.util.List;
-
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import br.com.projeto.spring.cache.CacheGeracoes;
+import br.com.projeto.spring.cache.CacheInvalidator;
+import br.com.projeto.spring.cache.ContagemCache;
 import br.com.projeto.spring.domain.dto.request.remedio.RemedioRequest;
+import br.com.projeto.spring.domain.dto.response.CursorPageResponse;
 import br.com.projeto.spring.domain.dto.response.PageResponse;
+import br.com.projeto.spring.domain.dto.response.SliceResponse;
 import br.com.projeto.spring.domain.dto.response.remedio.RemedioResponse;
 import br.com.projeto.spring.domain.model.Laboratorio;
 import br.com.projeto.spring.domain.model.Remedio;
 import br.com.projeto.spring.exception.ResourceNotFoundException;
 import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
 import br.com.projeto.spring.mapper.RemedioMapper;
+import br.com.projeto.spring.repository.ConsultaPorCursor;
 import br.com.projeto.spring.repository.LaboratorioRepository;
+import br.com.projeto.spring.repository.PersistenciaEmLote;
 import br.com.projeto.spring.repository.RemedioRepository;
+import br.com.projeto.spring.repository.projection.RemedioResumo;
+import br.com.projeto.spring.repository.projection.VersaoListagem;
 import br.com.projeto.spring.service.RemedioService;
+import br.com.projeto.spring.util.OrdenacaoPermitida;
 import br.com.projeto.spring.util.Util;
+import br.com.projeto.spring.util.UtilCursor;
 import br.com.projeto.spring.validation.RemedioValidator;
 import lombok.RequiredArgsConstructor;
 
@@ -30,6 +52,10 @@ public class RemedioServiceImpl implements RemedioService {
     private final LaboratorioRepository laboratorioRepository;
     private final RemedioMapper mapper;
     private final RemedioValidator validator;
+    private final CacheInvalidator cacheInvalidator;
+    private final ContagemCache contagens;
+    private final PersistenciaEmLote persistenciaEmLote;
+    private final ConsultaPorCursor consultaPorCursor;
 
     @Override
     /**
@@ -40,6 +66,7 @@ public class RemedioServiceImpl implements RemedioService {
      * @throws ResourceNotFoundException se o remédio não for encontrado.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "remedio", keyGenerator = "customKeyGenerator", sync = true)
     public RemedioResponse buscarRemedioPorId(Long id) throws ResourceNotFoundException {
 
         Remedio remedio = repository.findById(id)
@@ -56,12 +83,63 @@ public class RemedioServiceImpl implements RemedioService {
      * @return Página de DTOs de resposta de remédio.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "remedioPages", keyGenerator = "customKeyGenerator", sync = true)
     public PageResponse<RemedioResponse> listarRemedios(Pageable paginacao) {
 
-        Page<Remedio> page = repository.findAll(paginacao);
+        Slice<RemedioResumo> slice = repository.listarResumos(paginacao);
+        Page<RemedioResumo> page = PageableExecutionUtils.getPage(slice.getContent(), paginacao,
+                () -> contagens.contarTabela(CacheGeracoes.REMEDIOS, "remedio", repository::count));
+
         return Util.toPageResponse(page, mapper::toResponse);
     }
 
+    @Override
+    /**
+     * Lista os remédios com paginação, sem o total de registros.
+     *
+     * @param paginacao informações de paginação.
+     * @return Fatia de DTOs de resposta de remédio.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "remedioPages", keyGenerator = "customKeyGenerator", sync = true)
+    public SliceResponse<RemedioResponse> listarRemediosSemTotal(Pageable paginacao) {
+
+        Slice<RemedioResumo> slice = repository.listarResumos(paginacao);
+        return Util.toSliceResponse(slice, mapper::toResponse);
+    }
+
+    @Override
+    /**
+     * Lista os remédios por cursor (keyset). O laboratório é carregado no mesmo select (fetch graph) e,
+     * na transação somente leitura, as entidades não mantêm snapshot para dirty checking.
+     *
+     * @param cursor cursor da página anterior (vazio na primeira página).
+     * @param sort ordenação da primeira página; nas seguintes prevalece a do cursor.
+     * @param tamanhoPagina tamanho da página.
+     * @return Página de DTOs de resposta de remédio com o cursor da próxima página.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<RemedioResponse> listarRemediosPorCursor(String cursor, Sort sort, int tamanhoPagina) {
+        UtilCursor.Posicao posicao = UtilCursor.decodificar(cursor, sort, OrdenacaoPermitida.REMEDIO);
+
+        Window<Remedio> janela =
+                consultaPorCursor.buscar(Remedio.class, "laboratorio", null, Map.of(), posicao, tamanhoPagina);
+
+        return Util.toCursorPageResponse(janela, posicao.sort(), tamanhoPagina, mapper::toResponse);
+    }
+
+    @Override
+    /**
+     * Calcula a versão atual da listagem de remédios. A consulta só é refeita após alterações em
+     * remédios ou no nome de algum laboratório.
+     *
+     * @return quantidade de remédios e a maior data de alteração
+     */
+    @Transactional(readOnly = true)
+    public VersaoListagem buscarVersaoRemedios() {
+        return contagens.versao(repository::buscarVersao, CacheGeracoes.REMEDIOS, CacheGeracoes.RESUMO_LABORATORIOS);
+    }
+
     @Override
     @Transactional
     /**
@@ -83,6 +161,7 @@ public class RemedioServiceImpl implements RemedioService {
         validator.validarCadastro(remedio);
 
         repository.save(remedio);
+        invalidarCaches(null, laboratorio.getId());
 
         return mapper.toResponse(remedio);
     }
@@ -100,16 +179,11 @@ public class RemedioServiceImpl implements RemedioService {
             throws ResourceNotFoundException {
 
         List<Remedio> remedios = requestDTO.stream().map(dto -> mapper.toEntity(dto)).toList();
-
-        remedios.forEach(remedio -> {
-            Laboratorio laboratorio = laboratorioRepository.findById(remedio.getLaboratorio().getId()).orElseThrow(
-                    () -> new ResourceNotFoundException(ValidationMessagesKeys.LABORATORIO_NAO_ENCONTRADO));
-
-            remedio.setLaboratorio(laboratorio);
-        });
+        vincularLaboratorios(remedios);
 
         validator.validarCadastro(remedios);
-        repository.saveAll(remedios);
+        persistenciaEmLote.inserir(remedios);
+        invalidarCaches(null, remedios.stream().map(r -> r.getLaboratorio().getId()).toArray(Long[]::new));
 
         return remedios.stream().map(mapper::toResponse).toList();
     }
@@ -129,6 +203,7 @@ public class RemedioServiceImpl implements RemedioService {
         Remedio remedio = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ValidationMessagesKeys.REMEDIO_NAO_ENCONTRADO));
 
+        Long laboratorioAnteriorId = remedio.getLaboratorio().getId();
         Laboratorio laboratorio = null;
 
         if (Util.preenchido(() -> request.laboratorio().id())) {
@@ -142,6 +217,7 @@ public class RemedioServiceImpl implements RemedioService {
         mapper.updateEntity(remedio, request, laboratorio);
         validator.validarAtualizacao(remedio);
         repository.save(remedio);
+        invalidarCaches(id, laboratorioAnteriorId, remedio.getLaboratorio().getId());
 
         return mapper.toResponse(remedio);
     }
@@ -161,5 +237,34 @@ public class RemedioServiceImpl implements RemedioService {
 
         validator.validarExclusao(remedio);
         repository.delete(remedio);
+        invalidarCaches(id, remedio.getLaboratorio().getId());
+    }
+
+    // Carrega em uma única consulta (IN) os laboratórios distintos referenciados pelos remédios e
+    // informa de uma vez todos os IDs inexistentes
+    private void vincularLaboratorios(List<Remedio> remedios) throws ResourceNotFoundException {
+        Set<Long> ids = remedios.stream().map(r -> r.getLaboratorio().getId()).filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, Laboratorio> laboratorios = laboratorioRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Laboratorio::getId, Function.identity()));
+
+        validator.validarLaboratoriosEncontrados(ids, laboratorios.keySet());
+        remedios.forEach(r -> r.setLaboratorio(laboratorios.get(r.getLaboratorio().getId())));
+    }
+
+    // Invalida a listagem de remédios, o remédio alterado (se houver) e apenas as páginas de remédios
+    // dos laboratórios envolvidos
+    private void invalidarCaches(Long remedioId, Long... laboratorioIds) {
+        Stream<String> escopos = Stream.of(laboratorioIds).filter(Objects::nonNull).distinct()
+                .map(CacheGeracoes::remediosDoLaboratorio);
+
+        escopos = Stream.concat(escopos, Stream.of(CacheGeracoes.REMEDIOS));
+
+        if (remedioId != null) {
+            escopos = Stream.concat(escopos, Stream.of(CacheGeracoes.remedio(remedioId)));
+        }
+
+        cacheInvalidator.invalidar(escopos.toArray(String[]::new));
     }
 }
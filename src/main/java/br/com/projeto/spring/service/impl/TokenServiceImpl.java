@@ -9,6 +9,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import br.com.projeto.spring.domain.model.RefreshToken;
 import br.com.projeto.spring.repository.RefreshTokenRepository;
+import br.com.projeto.spring.security.RefreshTokenFiltro;
+import br.com.projeto.spring.security.RefreshTokenUltimoUsoBuffer;
 import br.com.projeto.spring.service.TokenService;
 import br.com.projeto.spring.util.Util;
 import br.com.projeto.spring.util.UtilToken;
@@ -22,6 +24,8 @@ public class TokenServiceImpl implements TokenService {
     private final RefreshTokenRepository repository;
     private final UtilToken utilToken;
     private final TokenValidator validator;
+    private final RefreshTokenUltimoUsoBuffer ultimoUsoBuffer;
+    private final RefreshTokenFiltro filtro;
 
     @Override
     @Transactional
@@ -51,9 +55,11 @@ public class TokenServiceImpl implements TokenService {
             String hashToken2 = utilToken.hmacSha512Base64(rawToken2);
             token.setTokenHash(hashToken2);
             repository.save(token);
+            filtro.adicionar(hashToken2);
             return rawToken2;
         }
 
+        filtro.adicionar(hashToken);
         return rawToken;
     }
 
@@ -63,8 +69,8 @@ public class TokenServiceImpl implements TokenService {
 
         RefreshToken token = validator.validateRefresh(rawToken);
 
-        token.setLastUsedAt(Instant.now());
-        repository.save(token);
+        // Gravado em lote pelo buffer; alterar a entidade gerenciada geraria um UPDATE por refresh
+        ultimoUsoBuffer.registrar(token.getId(), Instant.now());
 
         return token;
     }
@@ -86,8 +92,8 @@ public class TokenServiceImpl implements TokenService {
 
     @Override
     @Transactional
-    public void revokeAllForUser(String username) {
-        repository.deleteByUsername(username);
+    public int revokeAllForUser(String username) {
+        return repository.deletarPorUsername(username);
     }
 
     @Override
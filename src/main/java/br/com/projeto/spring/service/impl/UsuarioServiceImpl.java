@@ -2,21 +2,35 @@ package br.com.projeto.spring.service.impl;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import br.com.projeto.spring.cache.CacheGeracoes;
+import br.com.projeto.spring.cache.CacheInvalidator;
+import br.com.projeto.spring.cache.ContagemCache;
 import br.com.projeto.spring.domain.dto.request.usuario.UsuarioRequest;
 import br.com.projeto.spring.domain.dto.request.usuario.UsuarioUpdateRequest;
+import br.com.projeto.spring.domain.dto.response.CursorPageResponse;
 import br.com.projeto.spring.domain.dto.response.PageResponse;
+import br.com.projeto.spring.domain.dto.response.SliceResponse;
 import br.com.projeto.spring.domain.dto.response.usuario.UsuarioResponse;
 import br.com.projeto.spring.domain.model.Usuario;
 import br.com.projeto.spring.exception.ResourceNotFoundException;
 import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
 import br.com.projeto.spring.mapper.UsuarioMapper;
+import br.com.projeto.spring.repository.ConsultaPorCursor;
 import br.com.projeto.spring.repository.UsuarioRepository;
+import br.com.projeto.spring.security.PermissaoVersaoRegistry;
+import br.com.projeto.spring.security.UsuarioPrincipalCache;
 import br.com.projeto.spring.service.UsuarioService;
+import br.com.projeto.spring.util.OrdenacaoPermitida;
 import br.com.projeto.spring.util.Util;
+import br.com.projeto.spring.util.UtilCursor;
 import br.com.projeto.spring.validation.UsuarioValidator;
 import lombok.RequiredArgsConstructor;
 
@@ -28,6 +42,11 @@ public class UsuarioServiceImpl implements UsuarioService {
     private final PasswordEncoder passwordEncoder;
     private final UsuarioMapper mapper;
     private final UsuarioValidator usuarioValidator;
+    private final UsuarioPrincipalCache principalCache;
+    private final PermissaoVersaoRegistry permissaoVersaoRegistry;
+    private final CacheInvalidator cacheInvalidator;
+    private final ContagemCache contagens;
+    private final ConsultaPorCursor consultaPorCursor;
 
     @Override
     @Transactional
@@ -37,6 +56,8 @@ public class UsuarioServiceImpl implements UsuarioService {
         usuarioValidator.validarCadastro(usuario);
 
         repository.save(usuario);
+        cacheInvalidator.invalidar(CacheGeracoes.USUARIOS);
+
         return mapper.toResponse(usuario);
     }
 
@@ -53,10 +74,29 @@ public class UsuarioServiceImpl implements UsuarioService {
     @Override
     @Transactional(readOnly = true)
     public PageResponse<UsuarioResponse> listarUsuarios(Pageable paginacao) {
-        Page<Usuario> page = repository.findAll(paginacao);
+        Slice<Usuario> slice = repository.findSliceBy(paginacao);
+        Page<Usuario> page = PageableExecutionUtils.getPage(slice.getContent(), paginacao,
+                () -> contagens.contarTabela(CacheGeracoes.USUARIOS, "usuario", repository::count));
+
         return Util.toPageResponse(page, mapper::toResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<UsuarioResponse> listarUsuariosSemTotal(Pageable paginacao) {
+        return Util.toSliceResponse(repository.findSliceBy(paginacao), mapper::toResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UsuarioResponse> listarUsuariosPorCursor(String cursor, Sort sort, int tamanhoPagina) {
+        UtilCursor.Posicao posicao = UtilCursor.decodificar(cursor, sort, OrdenacaoPermitida.USUARIO);
+
+        Window<Usuario> janela = consultaPorCursor.buscar(Usuario.class, posicao, tamanhoPagina);
+
+        return Util.toCursorPageResponse(janela, posicao.sort(), tamanhoPagina, mapper::toResponse);
+    }
+
     @Override
     @Transactional
     public UsuarioResponse atualizarUsuario(Long id, UsuarioUpdateRequest request) {
@@ -64,12 +104,17 @@ public class UsuarioServiceImpl implements UsuarioService {
         Usuario usuarioBanco = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ValidationMessagesKeys.USUARIO_NAO_ENCONTRADO));
 
+        // O merge do save sobrescreve a entidade gerenciada, por isso o username anterior é guardado antes
+        String usernameAnterior = usuarioBanco.getUsername();
+
         Usuario usuarioAtualizado = mapper.copy(usuarioBanco);
         mapper.updateEntity(usuarioAtualizado, request);
 
         usuarioValidator.validarAtualizacao(usuarioAtualizado);
 
         repository.save(usuarioAtualizado);
+        principalCache.invalidar(usernameAnterior, usuarioAtualizado.getUsername());
+        permissaoVersaoRegistry.incrementar(id, usernameAnterior, usuarioAtualizado.getUsername());
 
         return mapper.toResponse(usuarioAtualizado);
     }
@@ -82,6 +127,9 @@ public class UsuarioServiceImpl implements UsuarioService {
                 .orElseThrow(() -> new ResourceNotFoundException(ValidationMessagesKeys.USUARIO_NAO_ENCONTRADO));
 
         repository.delete(usuario);
+        cacheInvalidator.invalidar(CacheGeracoes.USUARIOS);
+        principalCache.invalidar(usuario.getUsername());
+        permissaoVersaoRegistry.invalidar(usuario.getUsername());
     }
 
     @Override
@@ -93,6 +141,7 @@ public class UsuarioServiceImpl implements UsuarioService {
 
         usuario.setSenha(passwordEncoder.encode(novaSenha));
         repository.save(usuario);
+        principalCache.invalidar(usuario.getUsername());
 
         return mapper.toResponse(usuario);
     }
@@ -1,7 +1,13 @@
 package br.com.projeto.spring.util;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.Date;
 
 import javax.crypto.SecretKey;
@@ -9,52 +15,146 @@ import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Component
 public class JwtUtil {
 
+    /** Claim com as permissões efetivas do usuário (modo de autorização stateless). */
+    public static final String CLAIM_PERMISSOES = "perms";
+
+    /** Claim com a versão das permissões no momento da emissão do token. */
+    public static final String CLAIM_VERSAO_PERMISSOES = "pv";
+
+    public static final String NOME_CACHE = "jwtVerificado";
+
     private final SecretKey accessKey;
     private final long ACCESS_TTL_MIN = 15;
+    private final boolean statelessAuthorization;
+
+    // O parser é imutável e thread-safe, por isso é construído uma única vez
+    private final JwtParser accessParser;
+
+    // Claims de tokens já verificados, indexadas pelo SHA-256 do token e válidas até o exp
+    private final Cache<ByteBuffer, Claims> verificados;
 
     public JwtUtil(
 
             @Value("${jwt.access.secret}")
-            String accessSecretBase64
+            String accessSecretBase64,
+
+            @Value("${app.security.stateless-authorization.enabled:false}")
+            boolean statelessAuthorization,
+
+            @Value("${app.security.jwt-cache.maximum-size:10000}")
+            long maximumSize,
+
+            MeterRegistry meterRegistry
 
     ) {
 
         this.accessKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(accessSecretBase64));
+        this.statelessAuthorization = statelessAuthorization;
+        this.accessParser = Jwts.parser().verifyWith(accessKey).build();
+
+        this.verificados = Caffeine.newBuilder().maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((ByteBuffer k, Claims c) -> tempoRestante(c))).recordStats().build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verificados, NOME_CACHE);
     }
 
     public String generateAccessToken(String username) {
+        return generateAccessToken(username, null, null);
+    }
+
+    /**
+     * Gera o access token. Com a autorização stateless habilitada, as permissões e a versão delas são
+     * embutidas no token para que o filtro não precise consultar o banco a cada requisição.
+     *
+     * @param username nome de usuário
+     * @param permissoes permissões efetivas do usuário
+     * @param versaoPermissoes versão atual das permissões do usuário
+     * @return access token assinado
+     */
+    public String generateAccessToken(String username, Collection<String> permissoes, Long versaoPermissoes) {
         Instant now = Instant.now();
         Date expiryDate = Date.from(now.plus(ACCESS_TTL_MIN, ChronoUnit.MINUTES));
 
-        return Jwts.builder().subject(username).issuedAt(Date.from(now)).expiration(expiryDate).claim("type", "access")
-                .signWith(accessKey, Jwts.SIG.HS256).compact();
+        JwtBuilder builder = Jwts.builder().subject(username).issuedAt(Date.from(now)).expiration(expiryDate)
+                .claim("type", "access");
+
+        if (statelessAuthorization && permissoes != null && versaoPermissoes != null) {
+            builder.claim(CLAIM_PERMISSOES, permissoes.stream().sorted().toList())
+                    .claim(CLAIM_VERSAO_PERMISSOES, versaoPermissoes);
+        }
+
+        return builder.signWith(accessKey, Jwts.SIG.HS256).compact();
     }
 
-    private Claims parse(String token, SecretKey key) {
-        try {
-            return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-        } catch (JwtException | IllegalArgumentException ex) {
+    public boolean isStatelessAuthorization() {
+        return statelessAuthorization;
+    }
+
+    /**
+     * Verifica o access token uma única vez e retorna suas claims. Tokens já verificados são
+     * atendidos pelo cache até expirarem, sem recalcular a assinatura.
+     *
+     * @param token access token
+     * @return claims verificadas ou {@code null} se o token for inválido ou não for de acesso
+     */
+    public Claims verifyAccessToken(String token) {
+        if (Util.vazio(token)) {
             return null;
         }
+
+        Claims c = verificados.get(digest(token), k -> parse(token));
+        return c != null && "access".equals(c.get("type", String.class)) ? c : null;
     }
 
     public boolean validateAccessToken(String token) {
-        Claims c = parse(token, accessKey);
-        return c != null && "access".equals(c.get("type", String.class));
+        return verifyAccessToken(token) != null;
     }
 
     public String getUsernameFromAccessToken(String token) {
-        Claims c = parse(token, accessKey);
+        Claims c = verifyAccessToken(token);
         return c == null ? null : c.getSubject();
     }
 
+    private Claims parse(String token) {
+        try {
+            Claims c = accessParser.parseSignedClaims(token).getPayload();
+
+            // Sem exp o token não teria limite de permanência no cache
+            return c.getExpiration() == null ? null : c;
+        } catch (JwtException | IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static Duration tempoRestante(Claims claims) {
+        Duration restante = Duration.between(Instant.now(), claims.getExpiration().toInstant());
+        return restante.isNegative() ? Duration.ZERO : restante;
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
 }
@@ -0,0 +1,90 @@
+package br.com.projeto.spring.util;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+
+import br.com.projeto.spring.exception.ValidationException;
+import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
+
+/**
+ * Campos pelos quais uma listagem pode ser ordenada. Cada campo tem um índice composto
+ * {@code (coluna, id)} (changelog V12), de modo que toda ordenação aceita, já com o ID como
+ * desempate, é atendida por uma varredura de índice em vez de ordenar a tabela inteira. O ID como
+ * desempate final não precisa constar da lista; como chave principal, sim.
+ * <p>
+ * Campos anuláveis são aceitos na paginação por página, mas não na paginação por cursor: um valor
+ * nulo não pode ser usado como posição do keyset.
+ */
+public final class OrdenacaoPermitida {
+
+    private static final String ID = "id";
+
+    public static final OrdenacaoPermitida REMEDIO =
+            new OrdenacaoPermitida(Set.of("id", "nome", "validade", "createdAt"), Set.of("validade"));
+
+    /**
+     * Remédios de um laboratório, sempre por data de criação: índice
+     * {@code (laboratorio_id, created_at, id)}. Sem índice {@code (laboratorio_id, id)}, o ID só entra
+     * como desempate.
+     */
+    public static final OrdenacaoPermitida REMEDIO_POR_LABORATORIO =
+            new OrdenacaoPermitida(Set.of("createdAt"), Set.of());
+
+    public static final OrdenacaoPermitida LABORATORIO =
+            new OrdenacaoPermitida(Set.of("id", "nome", "createdAt"), Set.of());
+
+    public static final OrdenacaoPermitida USUARIO =
+            new OrdenacaoPermitida(Set.of("id", "username", "nome", "createdAt"), Set.of());
+
+    private final Set<String> campos;
+    private final Set<String> anulaveis;
+
+    private OrdenacaoPermitida(Set<String> campos, Set<String> anulaveis) {
+        this.campos = campos;
+        this.anulaveis = anulaveis;
+    }
+
+    /**
+     * @param campo propriedade da entidade
+     * @return {@code true} se a listagem pode ser ordenada pelo campo
+     */
+    public boolean permite(String campo) {
+        return campos.contains(campo);
+    }
+
+    /**
+     * @param campo propriedade da entidade
+     * @return {@code true} se o campo pode compor a posição de um cursor
+     */
+    public boolean permiteCursor(String campo) {
+        return campos.contains(campo) && !anulaveis.contains(campo);
+    }
+
+    /**
+     * @param sort ordenação completa, com o ID como desempate
+     * @return {@code true} se todas as chaves podem compor a posição de um cursor. O ID final é
+     *         aceito como desempate quando há outra chave antes dele
+     */
+    public boolean permiteCursor(Sort sort) {
+        List<Sort.Order> ordens = sort.toList();
+        int chaves = ordens.size() > 1 && ID.equals(ordens.get(ordens.size() - 1).getProperty())
+                ? ordens.size() - 1
+                : ordens.size();
+
+        return ordens.stream().limit(chaves).allMatch(ordem -> permiteCursor(ordem.getProperty()));
+    }
+
+    /**
+     * Valida a ordenação para a paginação por cursor.
+     *
+     * @param sort ordenação solicitada
+     * @throws ValidationException se algum campo não puder ser usado no cursor
+     */
+    public void validarCursor(Sort sort) {
+        if (!permiteCursor(sort)) {
+            throw new ValidationException(ValidationMessagesKeys.PAGINACAO_ORDENACAO_INVALIDA);
+        }
+    }
+}
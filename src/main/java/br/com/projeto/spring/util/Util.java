@@ -7,12 +7,19 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import br.com.projeto.spring.domain.dto.response.CursorPageResponse;
 import br.com.projeto.spring.domain.dto.response.PageResponse;
+import br.com.projeto.spring.domain.dto.response.SliceResponse;
+import br.com.projeto.spring.exception.ValidationException;
+import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
 
 public class Util {
 
@@ -64,17 +71,53 @@ public class Util {
      */
     public static Pageable gerarPaginacao(String paginaString, String tamanhoPaginaString, Sort sortBy) {
         final int DEFAULT_PAGE = 0;
-        final int DEFAULT_SIZE = 10;
 
         int pagina = Optional.ofNullable(toInt(paginaString)).filter(p -> p >= 0).orElse(DEFAULT_PAGE);
 
-        int tamanhoPagina = Optional.ofNullable(toInt(tamanhoPaginaString)).filter(t -> t > 0).orElse(DEFAULT_SIZE);
+        int tamanhoPagina = gerarTamanhoPagina(tamanhoPaginaString);
 
         Sort sort = (sortBy != null && sortBy.isSorted()) ? sortBy : Sort.unsorted();
 
         return PageRequest.of(pagina, tamanhoPagina, sort);
     }
 
+    /**
+     * Converte o tamanho de página informado.
+     *
+     * @param tamanhoPaginaString Tamanho da página como String. Se inválido ou nulo, assume 10.
+     * @return Tamanho da página.
+     */
+    public static int gerarTamanhoPagina(String tamanhoPaginaString) {
+        final int DEFAULT_SIZE = 10;
+
+        return Optional.ofNullable(toInt(tamanhoPaginaString)).filter(t -> t > 0).orElse(DEFAULT_SIZE);
+    }
+
+    /**
+     * Gera a ordenação a partir dos parâmetros de listagem, aceitando apenas os campos permitidos da
+     * listagem e terminando pelo ID como desempate.
+     *
+     * @param sortBy Campo de ordenação. Se vazio, ordena pelo ID.
+     * @param order "asc" para ordem crescente; qualquer outro valor ordena de forma decrescente.
+     * @param permitidos Campos de ordenação permitidos da listagem.
+     * @return Sort configurado conforme os parâmetros.
+     * @throws ValidationException se o campo de ordenação não for permitido.
+     */
+    public static Sort gerarOrdenacao(String sortBy, String order, OrdenacaoPermitida permitidos) {
+        if (!preenchido(sortBy)) {
+            return UtilCursor.comDesempate(Sort.unsorted());
+        }
+
+        if (!permitidos.permite(sortBy)) {
+            throw new ValidationException(ValidationMessagesKeys.PAGINACAO_ORDENACAO_INVALIDA);
+        }
+
+        Sort sort = preenchido(order) && order.equals("asc") ? Sort.by(sortBy).ascending()
+                : Sort.by(sortBy).descending();
+
+        return UtilCursor.comDesempate(sort);
+    }
+
     /**
      * Versão segura para verificação de objetos potencialmente nulos. Utilize para verificar se um
      * Optional está presente, ou se um campo de um objeto aninhado está preenchido: item.getCampo() se
@@ -184,6 +227,41 @@ public class Util {
         return new PageResponse<>(content, pageNumber, pageSize, totalElements, totalPages);
     }
 
+    /**
+     * Converte um Slice<T> para SliceResponse<R> usando um mapper, sem total de registros.
+     *
+     * @param slice Slice de entidades.
+     * @param mapper Função para converter T em R.
+     * @return SliceResponse<R> com os dados convertidos.
+     */
+    public static <T, R> SliceResponse<R> toSliceResponse(Slice<T> slice, Function<T, R> mapper) {
+
+        List<R> content = slice.getContent().stream().map(mapper).toList();
+        return new SliceResponse<>(content, slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+
+    /**
+     * Converte uma janela de uma listagem por keyset para CursorPageResponse<R>, com o cursor da
+     * página seguinte.
+     *
+     * @param janela Janela de entidades lida a partir da posição do cursor.
+     * @param sort Ordenação usada na consulta.
+     * @param tamanhoPagina Tamanho de página solicitado.
+     * @param mapper Função para converter T em R.
+     * @return CursorPageResponse<R> com os dados convertidos.
+     */
+    public static <T, R> CursorPageResponse<R> toCursorPageResponse(Window<T> janela, Sort sort, int tamanhoPagina,
+            Function<T, R> mapper) {
+
+        List<R> content = janela.getContent().stream().map(mapper).toList();
+
+        String proximoCursor = janela.hasNext() && !janela.isEmpty()
+                ? UtilCursor.codificar(sort, (KeysetScrollPosition) janela.positionAt(janela.size() - 1))
+                : null;
+
+        return new CursorPageResponse<>(content, tamanhoPagina, proximoCursor != null, proximoCursor);
+    }
+
     /**
      * Padroniza um telefone brasileiro para o formato (XX) 9XXXX-XXXX ou (XX) XXXX-XXXX. Aceita
      * entradas com ou sem DDD, parênteses, espaços ou hífen.
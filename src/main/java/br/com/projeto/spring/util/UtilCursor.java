@@ -0,0 +1,193 @@
+package br.com.projeto.spring.util;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.projeto.spring.exception.ValidationException;
+import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
+
+/**
+ * Cursores opacos da paginação por keyset. O cursor carrega a ordenação e os valores das chaves de
+ * ordenação (mais o ID, que garante a unicidade) do último registro da página, em JSON Base64
+ * url-safe. Os valores são tipados para que a consulta seguinte compare com o tipo da coluna.
+ */
+public class UtilCursor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String ID = "id";
+    private static final String PACOTE_ENUMS = "br.com.projeto.spring.domain.model.";
+
+    /**
+     * Posição de leitura de uma listagem por cursor.
+     *
+     * @param sort ordenação, sempre terminada pelo ID
+     * @param posicao posição keyset (inicial quando não há cursor)
+     */
+    public record Posicao(Sort sort, KeysetScrollPosition posicao) {}
+
+    /**
+     * Decodifica o cursor recebido ou, se ausente, gera a posição inicial para a ordenação informada.
+     *
+     * @param cursor cursor recebido (vazio na primeira página)
+     * @param sort ordenação solicitada; ignorada quando há cursor, que carrega a própria ordenação
+     * @param permitidos campos de ordenação permitidos da listagem
+     * @return ordenação e posição da consulta
+     * @throws ValidationException se o cursor for inválido ou a ordenação não puder ser usada no
+     *         cursor
+     */
+    public static Posicao decodificar(String cursor, Sort sort, OrdenacaoPermitida permitidos) {
+        if (!Util.preenchido(cursor)) {
+            Sort ordenacao = comDesempate(sort);
+            permitidos.validarCursor(ordenacao);
+
+            return new Posicao(ordenacao, ScrollPosition.keyset());
+        }
+
+        try {
+            JsonNode json = MAPPER.readTree(Base64.getUrlDecoder().decode(cursor));
+
+            List<Sort.Order> ordens = new ArrayList<>();
+            json.get("s").forEach(o -> ordens.add(new Sort.Order(Sort.Direction.fromString(o.get(1).asText()),
+                    o.get(0).asText())));
+
+            Map<String, Object> chaves = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> campos = json.get("k").fields();
+
+            while (campos.hasNext()) {
+                Map.Entry<String, JsonNode> campo = campos.next();
+                chaves.put(campo.getKey(), valor(campo.getValue()));
+            }
+
+            Sort ordenacao = Sort.by(ordens);
+            Set<String> propriedades = new LinkedHashSet<>();
+            ordenacao.forEach(o -> propriedades.add(o.getProperty()));
+
+            if (!propriedades.contains(ID) || !propriedades.equals(chaves.keySet())) {
+                throw new IllegalArgumentException("Chaves do cursor não correspondem à ordenação");
+            }
+
+            if (!permitidos.permiteCursor(ordenacao)) {
+                throw new IllegalArgumentException("Ordenação do cursor não permitida");
+            }
+
+            // A posição é comparada como tupla, o que exige a mesma direção em todas as chaves
+            if (ordenacao.stream().map(Sort.Order::getDirection).distinct().count() != 1) {
+                throw new IllegalArgumentException("Direções diferentes no cursor");
+            }
+
+            return new Posicao(ordenacao, ScrollPosition.forward(chaves));
+        } catch (RuntimeException | IOException e) {
+            throw new ValidationException(ValidationMessagesKeys.PAGINACAO_CURSOR_INVALIDO);
+        }
+    }
+
+    /**
+     * Codifica a posição do último registro de uma página.
+     *
+     * @param sort ordenação usada na consulta
+     * @param posicao posição keyset do último registro
+     * @return cursor opaco da página seguinte
+     */
+    public static String codificar(Sort sort, KeysetScrollPosition posicao) {
+        List<List<String>> ordens = new ArrayList<>();
+        sort.forEach(o -> ordens.add(List.of(o.getProperty(), o.getDirection().name())));
+
+        Map<String, List<String>> chaves = new LinkedHashMap<>();
+        posicao.getKeys().forEach((chave, valor) -> chaves.put(chave, tipado(valor)));
+
+        try {
+            byte[] json = MAPPER.writeValueAsBytes(Map.of("s", ordens, "k", chaves));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // O ID desempata registros com o mesmo valor nas demais chaves, tornando a ordenação total
+    static Sort comDesempate(Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return Sort.by(Sort.Direction.ASC, ID);
+        }
+
+        if (sort.getOrderFor(ID) != null) {
+            return sort;
+        }
+
+        Sort.Direction direcao = sort.stream().reduce((primeira, ultima) -> ultima).get().getDirection();
+        return sort.and(Sort.by(direcao, ID));
+    }
+
+    private static List<String> tipado(Object valor) {
+        if (valor instanceof String s) {
+            return List.of("S", s);
+        }
+        if (valor instanceof Long l) {
+            return List.of("L", l.toString());
+        }
+        if (valor instanceof Integer i) {
+            return List.of("I", i.toString());
+        }
+        if (valor instanceof Boolean b) {
+            return List.of("B", b.toString());
+        }
+        if (valor instanceof LocalDate d) {
+            return List.of("D", d.toString());
+        }
+        if (valor instanceof LocalDateTime t) {
+            return List.of("T", t.toString());
+        }
+        if (valor instanceof Enum<?> e) {
+            return List.of("E", e.getDeclaringClass().getSimpleName(), e.name());
+        }
+
+        // Chaves nulas ou de outros tipos não podem ser usadas como posição do keyset
+        throw new IllegalArgumentException("Tipo de chave de cursor não suportado: " + valor);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Object valor(JsonNode tipado) {
+        String valor = tipado.get(1).asText();
+
+        return switch (tipado.get(0).asText()) {
+            case "S" -> valor;
+            case "L" -> Long.valueOf(valor);
+            case "I" -> Integer.valueOf(valor);
+            case "B" -> Boolean.valueOf(valor);
+            case "D" -> LocalDate.parse(valor);
+            case "T" -> LocalDateTime.parse(valor);
+            case "E" -> {
+                // Apenas enums do modelo de domínio, identificados pelo nome simples
+                if (!valor.matches("[A-Za-z0-9]+")) {
+                    throw new IllegalArgumentException("Enum não permitido no cursor: " + valor);
+                }
+
+                Class<?> tipo = ClassUtils.resolveClassName(PACOTE_ENUMS + valor, UtilCursor.class.getClassLoader());
+
+                if (!tipo.isEnum()) {
+                    throw new IllegalArgumentException("Tipo não enum no cursor: " + valor);
+                }
+
+                yield Enum.valueOf((Class<? extends Enum>) tipo, tipado.get(2).asText());
+            }
+            default -> throw new IllegalArgumentException("Tipo de chave de cursor inválido");
+        };
+    }
+}
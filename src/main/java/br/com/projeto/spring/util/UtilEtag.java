@@ -0,0 +1,60 @@
+package br.com.projeto.spring.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+
+import br.com.projeto.spring.repository.projection.VersaoListagem;
+
+public class UtilEtag {
+
+    private static final int BYTES_ETAG = 16;
+
+    /**
+     * Gera um ETag forte a partir dos valores que determinam a representação do recurso (ID, data de
+     * alteração e demais dados relacionados).
+     *
+     * @param partes valores que identificam a versão do recurso
+     * @return ETag entre aspas
+     */
+    public static String gerar(Object... partes) {
+        MessageDigest digest;
+
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        for (Object parte : partes) {
+            digest.update(String.valueOf(parte).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+
+        byte[] hash = digest.digest();
+        return "\"" + HexFormat.of().formatHex(hash, 0, BYTES_ETAG) + "\"";
+    }
+
+    /**
+     * Gera o ETag de uma listagem a partir da sua versão.
+     *
+     * @param versao quantidade de registros e maior data de alteração
+     * @return ETag entre aspas
+     */
+    public static String gerar(VersaoListagem versao) {
+        return gerar(versao.total(), versao.ultimaAlteracao());
+    }
+
+    /**
+     * Converte a data de alteração para o valor usado em {@code Last-Modified}.
+     *
+     * @param dataHora data de alteração (fuso do servidor, como gravada pela auditoria)
+     * @return milissegundos desde a época, ou -1 se a data não for informada
+     */
+    public static long epochMilli(LocalDateTime dataHora) {
+        return dataHora == null ? -1 : dataHora.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.projeto.spring.util;
 
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
 import java.util.Base64;
 
@@ -15,7 +16,13 @@ public class UtilToken {
 
     private static final SecureRandom secureRandom = new SecureRandom();
 
-    private final String pepper;
+    private static final String ALGORITMO = "HmacSHA512";
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecretKeySpec keySpec;
+
+    // Mac não é thread-safe: cada thread mantém uma instância já inicializada com o pepper e os buffers
+    private final ThreadLocal<HmacEngine> engines;
 
     public UtilToken(
 
@@ -23,7 +30,11 @@ public class UtilToken {
             String pepper
 
     ) {
-        this.pepper = pepper;
+        this.keySpec = new SecretKeySpec(pepper.getBytes(StandardCharsets.UTF_8), ALGORITMO);
+        this.engines = ThreadLocal.withInitial(() -> new HmacEngine(keySpec));
+
+        // Falha na inicialização, e não na primeira requisição, se o algoritmo ou a chave forem inválidos
+        engines.get();
     }
 
     // gera token raw para ser enviado no cookie (base64 url-safe sem padding)
@@ -35,16 +46,71 @@ public class UtilToken {
 
     // calcula HMAC-SHA512 e retorna Base64 url-safe
     public String hmacSha512Base64(String rawToken) {
-        try {
-            Mac mac = Mac.getInstance("HmacSHA512");
-            SecretKeySpec keySpec = new SecretKeySpec(this.pepper.getBytes(StandardCharsets.UTF_8), "HmacSHA512");
+        return engines.get().hmacBase64(rawToken);
+    }
+
+    /**
+     * Mac pré-inicializado com buffers reutilizáveis. A única alocação por chamada é a String
+     * retornada (e o array de bytes do token quando ele não for ASCII).
+     */
+    private static final class HmacEngine {
+
+        private final Mac mac;
+        private final byte[] hash;
+        private final byte[] base64;
+        private byte[] entrada = new byte[128];
+
+        HmacEngine(SecretKeySpec keySpec) {
+            try {
+                this.mac = Mac.getInstance(ALGORITMO);
+                this.mac.init(keySpec);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Failed to initialize HMAC-SHA512", e);
+            }
+
+            this.hash = new byte[mac.getMacLength()];
+            this.base64 = new byte[(hash.length * 4 + 2) / 3];
+        }
+
+        String hmacBase64(String rawToken) {
+            try {
+                int tamanho = copiarAscii(rawToken);
+
+                if (tamanho < 0) {
+                    mac.update(rawToken.getBytes(StandardCharsets.UTF_8));
+                } else {
+                    mac.update(entrada, 0, tamanho);
+                }
+
+                mac.doFinal(hash, 0);
+            } catch (GeneralSecurityException e) {
+                mac.reset();
+                throw new IllegalStateException("Failed to compute HMAC-SHA512", e);
+            }
+
+            int len = BASE64_URL.encode(hash, base64);
+            return new String(base64, 0, len, StandardCharsets.ISO_8859_1);
+        }
+
+        // Tokens gerados por generateRawToken são ASCII, cujo UTF-8 é o próprio código do caractere
+        private int copiarAscii(String valor) {
+            int tamanho = valor.length();
+
+            if (entrada.length < tamanho) {
+                entrada = new byte[Math.max(tamanho, entrada.length * 2)];
+            }
+
+            for (int i = 0; i < tamanho; i++) {
+                char c = valor.charAt(i);
+
+                if (c >= 0x80) {
+                    return -1;
+                }
 
-            mac.init(keySpec);
-            byte[] result = mac.doFinal(rawToken.getBytes(StandardCharsets.UTF_8));
+                entrada[i] = (byte) c;
+            }
 
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(result);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to compute HMAC-SHA512", e);
+            return tamanho;
         }
     }
 }
@@ -1,10 +1,12 @@
 package br.com.projeto.spring.validation;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import br.com.projeto.spring.exception.ResourceNotFoundException;
 import br.com.projeto.spring.exception.ValidationException;
 import br.com.projeto.spring.i18n.MessageResolver;
 import jakarta.validation.ConstraintViolation;
@@ -33,6 +35,26 @@ public abstract class BaseValidator<T> {
         }
     }
 
+    /**
+     * Verifica se todos os IDs requisitados foram encontrados, informando de uma vez os ausentes, sem
+     * repetição e em ordem crescente.
+     *
+     * @param chaveMensagem chave da mensagem, com os IDs ausentes como parâmetro
+     * @param idsRequisitados IDs requisitados
+     * @param idsEncontrados IDs encontrados
+     * @throws ResourceNotFoundException se algum ID não for encontrado
+     */
+    protected void validarEncontrados(String chaveMensagem, Collection<Long> idsRequisitados,
+            Collection<Long> idsEncontrados) throws ResourceNotFoundException {
+
+        List<String> idsNaoEncontrados = idsRequisitados.stream().filter(id -> !idsEncontrados.contains(id))
+                .distinct().sorted().map(String::valueOf).toList();
+
+        if (!idsNaoEncontrados.isEmpty()) {
+            throw new ResourceNotFoundException(messages.get(chaveMensagem, String.join(", ", idsNaoEncontrados)));
+        }
+    }
+
     public abstract void validarCadastro(T entidade);
 
     public abstract void validarCadastro(List<T> entidades);
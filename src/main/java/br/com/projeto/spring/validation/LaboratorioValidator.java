@@ -1,12 +1,16 @@
 package br.com.projeto.spring.validation;
 
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import br.com.projeto.spring.domain.model.Laboratorio;
@@ -16,6 +20,7 @@ import br.com.projeto.spring.exception.ValidationException;
 import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
 import br.com.projeto.spring.i18n.MessageResolver;
 import br.com.projeto.spring.repository.LaboratorioRepository;
+import br.com.projeto.spring.repository.projection.RemedioEmUso;
 import br.com.projeto.spring.util.Util;
 import jakarta.validation.Validator;
 
@@ -24,11 +29,24 @@ public class LaboratorioValidator extends BaseValidator<Laboratorio> {
 
     private final LaboratorioRepository repository;
     private final MessageResolver messages;
+    private final int maximoRemediosListados;
 
-    public LaboratorioValidator(Validator validator, LaboratorioRepository repository, MessageResolver messages) {
+    public LaboratorioValidator(
+
+            Validator validator,
+
+            LaboratorioRepository repository,
+
+            MessageResolver messages,
+
+            @Value("${app.laboratorio.exclusao.max-remedios-listados:10}")
+            int maximoRemediosListados
+
+    ) {
         super(validator, messages);
         this.repository = repository;
         this.messages = messages;
+        this.maximoRemediosListados = Math.max(1, maximoRemediosListados);
     }
 
     private void validarLaboratorio(Laboratorio laboratorio) {
@@ -80,11 +98,23 @@ public class LaboratorioValidator extends BaseValidator<Laboratorio> {
     }
 
     public void validarExclusao(List<Laboratorio> laboratorios, List<Long> idsRequisitados) {
+        validarExclusaoPorId(nomesPorId(laboratorios), idsRequisitados);
+    }
+
+    /**
+     * Validações de exclusão sem as entidades carregadas.
+     *
+     * @param nomes nomes dos laboratórios encontrados, por ID
+     * @param idsRequisitados IDs cuja exclusão foi solicitada
+     * @throws ResourceNotFoundException se algum laboratório não for encontrado
+     * @throws EntityInUseException se algum laboratório possuir remédios
+     */
+    public void validarExclusaoPorId(Map<Long, String> nomes, Collection<Long> idsRequisitados) {
         if (Util.preenchido(idsRequisitados)) {
-            validarLaboratoriosEncontrados(idsRequisitados, laboratorios);
+            validarEncontrados(ValidationMessagesKeys.LABORATORIOS_NAO_ENCONTRADOS, idsRequisitados, nomes.keySet());
         }
 
-        validarRemediosExistentesJson(laboratorios);
+        validarRemediosExistentes(nomes);
 
         // Adicione aqui outras validações de exclusão se necessário
     }
@@ -93,43 +123,50 @@ public class LaboratorioValidator extends BaseValidator<Laboratorio> {
 
         Set<String> emailsUnicos = new HashSet<>();
 
-        Set<String> emailsDuplicadosNaLista = laboratorios.stream().map(Laboratorio::getEmail)
-                .filter(email -> !emailsUnicos.add(email)).collect(Collectors.toSet());
+        Set<String> emailsDuplicados = laboratorios.stream().map(Laboratorio::getEmail)
+                .filter(email -> !emailsUnicos.add(email)).collect(Collectors.toCollection(TreeSet::new));
 
-        Set<String> emailsDuplicadosNoBanco = laboratorios.stream().map(Laboratorio::getEmail)
-                .filter(email -> repository.existsByEmail(email)).collect(Collectors.toSet());
-
-        Set<String> emailsDuplicados = new HashSet<>(emailsDuplicadosNaLista);
-        emailsDuplicados.addAll(emailsDuplicadosNoBanco);
+        // Uma única consulta (email IN) para todos os e-mails do lote
+        if (!emailsUnicos.isEmpty()) {
+            emailsDuplicados.addAll(repository.buscarEmailsExistentes(emailsUnicos));
+        }
 
         if (Util.preenchido(emailsDuplicados)) {
 
-            String mensagem = messages.get(ValidationMessagesKeys.LABORATORIO_EMAIL_UNICO);
+            String mensagem =
+                    messages.get(ValidationMessagesKeys.LABORATORIO_EMAIL_UNICO, String.join(", ", emailsDuplicados));
 
             throw new ValidationException(mensagem);
         }
     }
 
     public void validarRemediosExistentesJson(List<Laboratorio> laboratorios) {
-        Map<String, Set<String>> laboratoriosRemedios = new HashMap<>();
+        validarRemediosExistentes(nomesPorId(laboratorios));
+    }
 
-        for (Laboratorio laboratorio : laboratorios) {
+    private static Map<Long, String> nomesPorId(List<Laboratorio> laboratorios) {
+        return laboratorios.stream().collect(Collectors.toMap(Laboratorio::getId, Laboratorio::getNome, (a, b) -> a));
+    }
 
-            Laboratorio laboratorioBanco = repository.findByIdAndRemediosIsNotEmpty(laboratorio.getId()).orElse(null);
+    private void validarRemediosExistentes(Map<Long, String> nomes) {
+        if (nomes.isEmpty()) {
+            return;
+        }
 
-            if (Util.preenchido(laboratorioBanco)) {
+        // Uma única consulta para todos os laboratórios, limitada aos primeiros remédios de cada um
+        List<RemedioEmUso> remedios = repository.buscarRemediosEmUso(nomes.keySet(), maximoRemediosListados);
 
-                String nomeLab = laboratorio.getNome();
+        Map<String, Set<String>> laboratoriosRemedios = new LinkedHashMap<>();
 
-                Set<String> remediosSet = new HashSet<>();
+        for (RemedioEmUso remedio : remedios) {
+            Set<String> remediosSet = laboratoriosRemedios.computeIfAbsent(nomes.get(remedio.laboratorioId()),
+                    nome -> new LinkedHashSet<>());
 
-                if (Util.preenchido(laboratorioBanco.getRemedios())) {
-                    laboratorioBanco.getRemedios().forEach(remedio -> {
-                        remediosSet.add("[" + remedio.getId() + "] " + remedio.getNome());
-                    });
-                }
+            remediosSet.add("[" + remedio.id() + "] " + remedio.nome());
 
-                laboratoriosRemedios.put(nomeLab, remediosSet);
+            if (remediosSet.size() == maximoRemediosListados && remedio.total() > maximoRemediosListados) {
+                remediosSet.add(messages.get(ValidationMessagesKeys.LABORATORIO_EXCLUSAO_REMEDIOS_RESTANTES,
+                        String.valueOf(remedio.total() - maximoRemediosListados)));
             }
         }
 
@@ -138,17 +175,4 @@ public class LaboratorioValidator extends BaseValidator<Laboratorio> {
         }
     }
 
-    private void validarLaboratoriosEncontrados(List<Long> idsRequisitados, List<Laboratorio> encontrados)
-            throws ResourceNotFoundException {
-        List<Long> encontradosIds = encontrados.stream().map(Laboratorio::getId).toList();
-
-        List<Long> idsNaoEncontrados = idsRequisitados.stream().filter(id -> !encontradosIds.contains(id)).toList();
-
-        if (!idsNaoEncontrados.isEmpty()) {
-            String mensagem = messages.get(ValidationMessagesKeys.LABORATORIO_NAO_ENCONTRADO,
-                    String.join(", ", idsNaoEncontrados.stream().map(String::valueOf).toList()));
-            throw new ResourceNotFoundException(mensagem);
-        }
-    }
-
 }
@@ -1,10 +1,13 @@
 package br.com.projeto.spring.validation;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.stereotype.Component;
 
 import br.com.projeto.spring.domain.model.Remedio;
+import br.com.projeto.spring.exception.ResourceNotFoundException;
+import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
 import jakarta.validation.Validator;
 import br.com.projeto.spring.i18n.MessageResolver;
 
@@ -45,4 +48,18 @@ public class RemedioValidator extends BaseValidator<Remedio> {
         // Adicione aqui novas validações conforme necessário
     }
 
+    /**
+     * Verifica se todos os laboratórios referenciados pelos remédios foram encontrados, informando
+     * de uma vez todos os IDs ausentes.
+     *
+     * @param idsRequisitados IDs de laboratório referenciados
+     * @param idsEncontrados IDs de laboratório encontrados
+     * @throws ResourceNotFoundException se algum laboratório não existir
+     */
+    public void validarLaboratoriosEncontrados(Collection<Long> idsRequisitados, Collection<Long> idsEncontrados)
+            throws ResourceNotFoundException {
+
+        validarEncontrados(ValidationMessagesKeys.LABORATORIOS_NAO_ENCONTRADOS, idsRequisitados, idsEncontrados);
+    }
+
 }
@@ -10,6 +10,7 @@ import br.com.projeto.spring.domain.model.RefreshToken;
 import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
 import br.com.projeto.spring.i18n.MessageResolver;
 import br.com.projeto.spring.repository.RefreshTokenRepository;
+import br.com.projeto.spring.security.RefreshTokenFiltro;
 import br.com.projeto.spring.util.Util;
 import br.com.projeto.spring.util.UtilToken;
 import lombok.RequiredArgsConstructor;
@@ -21,12 +22,15 @@ public class TokenValidator {
     private final MessageResolver messages;
     private final RefreshTokenRepository repository;
     private final UtilToken utilToken;
+    private final RefreshTokenFiltro filtro;
 
     public RefreshToken validateRefresh(String rawToken) throws AuthenticationException {
 
         validateRawTokenPreenchido(rawToken);
 
         String hashToken = utilToken.hmacSha512Base64(rawToken);
+        validateTokenConhecido(hashToken);
+
         var maybe = repository.findByTokenHashAndRevokedFalse(hashToken);
 
         validateTokenNotRevokedExists(maybe);
@@ -41,6 +45,10 @@ public class TokenValidator {
         validateRawTokenPreenchido(rawToken);
         String hashToken = utilToken.hmacSha512Base64(rawToken);
 
+        if (!filtro.podeExistir(hashToken)) {
+            return null;
+        }
+
         var maybe = repository.findByTokenHash(hashToken);
 
         if (maybe.isEmpty() || maybe.get().isRevoked()) {
@@ -57,6 +65,8 @@ public class TokenValidator {
         validateRawTokenPreenchido(rawToken);
 
         String hashToken = utilToken.hmacSha512Base64(rawToken);
+        validateTokenConhecido(hashToken);
+
         var maybe = repository.findByTokenHashAndRevokedFalse(hashToken);
 
         validateTokenNotRevokedExists(maybe);
@@ -71,6 +81,14 @@ public class TokenValidator {
         }
     }
 
+    // Rejeita sem consultar o banco tokens que certamente não existem ou não são válidos
+    private void validateTokenConhecido(String hashToken) throws AuthenticationException {
+        if (!filtro.podeExistir(hashToken)) {
+            String msgErro = messages.get(ValidationMessagesKeys.AUTENTICACAO_REFRESH_TOKEN_INVALIDO);
+            throw new AuthenticationException(msgErro) {};
+        }
+    }
+
     private void validateTokenNotRevokedExists(Optional<RefreshToken> maybe) throws AuthenticationException {
         if (maybe.isEmpty()) {
             String msgErro = messages.get(ValidationMessagesKeys.AUTENTICACAO_REFRESH_TOKEN_INVALIDO);
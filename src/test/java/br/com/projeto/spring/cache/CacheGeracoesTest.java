@@ -0,0 +1,140 @@
+package br.com.projeto.spring.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.projeto.spring.config.CacheProperties;
+
+class CacheGeracoesTest {
+
+    private static final Duration TTL_CONTAGENS = Duration.ofMinutes(10);
+
+    private final CacheGeracoes geracoes = new CacheGeracoes(new CacheProperties(), TTL_CONTAGENS, Duration.ZERO);
+
+    private static CacheProperties properties(String defaultSpec, Map<String, String> caches) {
+        CacheProperties properties = new CacheProperties();
+        properties.setDefaultSpec(defaultSpec);
+        properties.getCaches().putAll(caches);
+        return properties;
+    }
+
+    @Test
+    @DisplayName("Escopo nunca incrementado deve estar na geração zero")
+    void geracao_EscopoDesconhecido_DeveRetornarZero() {
+        assertThat(geracoes.geracao(CacheGeracoes.remedio(1L))).isZero();
+    }
+
+    @Test
+    @DisplayName("Incrementos devem gerar valores crescentes mesmo em escopos diferentes")
+    void incrementar_DeveUsarRelogioUnico() {
+        geracoes.incrementar(CacheGeracoes.REMEDIOS);
+        long primeira = geracoes.geracao(CacheGeracoes.REMEDIOS);
+
+        geracoes.incrementar(CacheGeracoes.LABORATORIOS);
+        geracoes.incrementar(CacheGeracoes.REMEDIOS);
+
+        assertThat(geracoes.geracao(CacheGeracoes.LABORATORIOS)).isGreaterThan(primeira);
+        assertThat(geracoes.geracao(CacheGeracoes.REMEDIOS)).isGreaterThan(geracoes.geracao(CacheGeracoes.LABORATORIOS));
+    }
+
+    @Test
+    @DisplayName("Geração da chave de remédio deve mudar com o remédio ou com o resumo dos laboratórios")
+    void geracaoDaChave_Remedio_DeveDependerDosDoisEscopos() {
+        Object[] params = { 1L };
+        long inicial = geracoes.geracaoDaChave("remedio", params);
+
+        geracoes.incrementar(CacheGeracoes.remedio(2L));
+        assertThat(geracoes.geracaoDaChave("remedio", params)).isEqualTo(inicial);
+
+        geracoes.incrementar(CacheGeracoes.remedio(1L));
+        long aposRemedio = geracoes.geracaoDaChave("remedio", params);
+        assertThat(aposRemedio).isNotEqualTo(inicial);
+
+        geracoes.incrementar(CacheGeracoes.RESUMO_LABORATORIOS);
+        long aposResumo = geracoes.geracaoDaChave("remedio", params);
+        assertThat(aposResumo).isNotEqualTo(aposRemedio);
+
+        geracoes.incrementar(CacheGeracoes.remedio(1L));
+        assertThat(geracoes.geracaoDaChave("remedio", params)).isNotEqualTo(aposResumo);
+    }
+
+    @Test
+    @DisplayName("Geração da chave de laboratório deve mudar apenas com o próprio laboratório")
+    void geracaoDaChave_Laboratorio_DeveDependerDoProprioEscopo() {
+        Object[] params = { 7L };
+        long inicial = geracoes.geracaoDaChave("laboratorio", params);
+
+        geracoes.incrementar(CacheGeracoes.LABORATORIOS);
+        geracoes.incrementar(CacheGeracoes.laboratorio(8L));
+        geracoes.incrementar(CacheGeracoes.remediosDoLaboratorio(7L));
+        assertThat(geracoes.geracaoDaChave("laboratorio", params)).isEqualTo(inicial);
+
+        geracoes.incrementar(CacheGeracoes.laboratorio(7L));
+        assertThat(geracoes.geracaoDaChave("laboratorio", params)).isNotEqualTo(inicial);
+    }
+
+    @Test
+    @DisplayName("Geração da chave das listagens deve depender apenas dos seus escopos")
+    void geracaoDaChave_Listagens_DeveDependerDosEscopos() {
+        long laboratorios = geracoes.geracaoDaChave("laboratorioPages", new Object[0]);
+        long remediosDoLab = geracoes.geracaoDaChave("laboratorioRemedios", new Object[] { 7L });
+
+        geracoes.incrementar(CacheGeracoes.REMEDIOS);
+
+        assertThat(geracoes.geracaoDaChave("laboratorioPages", new Object[0])).isEqualTo(laboratorios);
+        assertThat(geracoes.geracaoDaChave("laboratorioRemedios", new Object[] { 7L })).isEqualTo(remediosDoLab);
+
+        geracoes.incrementar(CacheGeracoes.remediosDoLaboratorio(7L));
+
+        assertThat(geracoes.geracaoDaChave("laboratorioRemedios", new Object[] { 7L })).isNotEqualTo(remediosDoLab);
+        assertThat(geracoes.geracaoDaChave("outroCache", new Object[0])).isZero();
+    }
+
+    @Test
+    @DisplayName("Maior TTL deve considerar todas as especificações e as contagens")
+    void maiorTtl_DeveConsiderarTodasAsEspecificacoes() {
+        CacheProperties properties = properties("maximumSize=500,expireAfterWrite=300s",
+                Map.of("a", "maximumSize=10,refreshAfterWrite=5m,expireAfterWrite=15m", "b",
+                        "expireAfterAccess=1h,maximumSize=10"));
+
+        assertThat(CacheGeracoes.maiorTtl(properties, TTL_CONTAGENS)).contains(Duration.ofHours(1));
+        assertThat(CacheGeracoes.maiorTtl(properties("expireAfterWrite=1m", Map.of()), Duration.ofDays(1)))
+                .contains(Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("Cache sem expiração deve impedir a expiração das gerações")
+    void maiorTtl_CacheSemExpiracao_DeveRetornarVazio() {
+        CacheProperties properties = properties("maximumSize=500,expireAfterWrite=300s",
+                Map.of("a", "maximumSize=10"));
+
+        assertThat(CacheGeracoes.maiorTtl(properties, TTL_CONTAGENS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Expiração configurada abaixo do maior TTL deve ser rejeitada")
+    void construtor_ExpiracaoMenorQueTtl_DeveLancarExcecao() {
+        assertThatThrownBy(() -> new CacheGeracoes(new CacheProperties(), TTL_CONTAGENS, Duration.ofMinutes(5)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Escopo sem incremento além da expiração deve voltar à geração zero")
+    void geracao_EscopoExpirado_DeveVoltarAZero() throws InterruptedException {
+        CacheGeracoes curtas = new CacheGeracoes(properties("expireAfterWrite=PT0.01S", Map.of()),
+                Duration.ofMillis(10), Duration.ofMillis(50));
+
+        curtas.incrementar(CacheGeracoes.remedio(1L));
+        assertThat(curtas.geracao(CacheGeracoes.remedio(1L))).isPositive();
+
+        Thread.sleep(200);
+
+        assertThat(curtas.geracao(CacheGeracoes.remedio(1L))).isZero();
+    }
+}
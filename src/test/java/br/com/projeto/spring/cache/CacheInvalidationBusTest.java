@@ -0,0 +1,87 @@
+package br.com.projeto.spring.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.projeto.spring.cache.CacheInvalidationBus.EstadoNo;
+
+class CacheInvalidationBusTest {
+
+    // Limite que considera expirada qualquer lacuna registrada até agora
+    private static long depoisDeAgora() {
+        return System.nanoTime() + 1;
+    }
+
+    @Test
+    @DisplayName("Sequência contínua não deve deixar lacunas")
+    void registrar_SequenciaContinua_NaoDeveTerLacuna() {
+        EstadoNo estado = new EstadoNo(5);
+
+        assertThat(estado.registrar(6)).isTrue();
+        assertThat(estado.registrar(7)).isTrue();
+        assertThat(estado.possuiLacunaExpirada(depoisDeAgora())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Lacuna deve ser resolvida pelas mensagens que chegam fora de ordem")
+    void registrar_ForaDeOrdem_DeveResolverLacuna() {
+        EstadoNo estado = new EstadoNo(5);
+
+        assertThat(estado.registrar(9)).isTrue();
+        assertThat(estado.possuiLacunaExpirada(depoisDeAgora())).isTrue();
+
+        estado.registrar(7);
+        estado.registrar(6);
+        assertThat(estado.possuiLacunaExpirada(depoisDeAgora())).isTrue();
+
+        estado.registrar(8);
+        assertThat(estado.possuiLacunaExpirada(depoisDeAgora())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Lacuna dentro da tolerância não deve ser considerada expirada")
+    void possuiLacunaExpirada_DentroDaTolerancia_DeveRetornarFalse() {
+        long antes = System.nanoTime();
+        EstadoNo estado = new EstadoNo(1);
+
+        estado.registrar(3);
+
+        assertThat(estado.possuiLacunaExpirada(antes)).isFalse();
+        assertThat(estado.possuiLacunaExpirada(depoisDeAgora())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Mensagem repetida ou antiga não deve alterar o estado")
+    void registrar_SequenciaRepetida_DeveSerIgnorada() {
+        EstadoNo estado = new EstadoNo(5);
+
+        assertThat(estado.registrar(5)).isTrue();
+        assertThat(estado.registrar(2)).isTrue();
+        assertThat(estado.registrar(6)).isTrue();
+        assertThat(estado.possuiLacunaExpirada(depoisDeAgora())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Lacuna maior que o limite deve ser rejeitada")
+    void registrar_LacunaAcimaDoLimite_DeveRetornarFalse() {
+        EstadoNo estado = new EstadoNo(5);
+
+        assertThat(estado.registrar(5 + 1_001)).isFalse();
+        assertThat(estado.registrar(5 + 1_000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Reinício deve descartar as lacunas pendentes")
+    void reiniciar_DeveDescartarLacunas() {
+        EstadoNo estado = new EstadoNo(5);
+        estado.registrar(20);
+
+        estado.reiniciar(2_000);
+
+        assertThat(estado.possuiLacunaExpirada(depoisDeAgora())).isFalse();
+        assertThat(estado.registrar(2_001)).isTrue();
+        assertThat(estado.possuiLacunaExpirada(depoisDeAgora())).isFalse();
+    }
+}
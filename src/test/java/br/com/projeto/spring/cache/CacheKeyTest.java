@@ -0,0 +1,92 @@
+package br.com.projeto.spring.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import br.com.projeto.spring.service.LaboratorioService;
+
+class CacheKeyTest {
+
+    private static final Method LISTAR = metodo("listarLaboratorios", Pageable.class);
+    private static final Method LISTAR_SEM_TOTAL = metodo("listarLaboratoriosSemTotal", Pageable.class);
+
+    private static Method metodo(String nome, Class<?>... tipos) {
+        try {
+            return LaboratorioService.class.getMethod(nome, tipos);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    @DisplayName("Pageables equivalentes devem gerar chaves iguais")
+    void of_PageablesEquivalentes_DeveGerarChavesIguais() {
+        Pageable a = PageRequest.of(2, 20, Sort.by(Sort.Direction.ASC, "nome").and(Sort.by("id")));
+        Pageable b = PageRequest.of(2, 20, Sort.by(Sort.Order.asc("nome"), Sort.Order.asc("id")));
+
+        CacheKey chaveA = CacheKey.of(LISTAR, 5L, new Object[] { a });
+        CacheKey chaveB = CacheKey.of(LISTAR, 5L, new Object[] { b });
+
+        assertThat(chaveA).isEqualTo(chaveB);
+        assertThat(chaveA.hashCode()).isEqualTo(chaveB.hashCode());
+    }
+
+    @Test
+    @DisplayName("Pageables unpaged com a mesma ordenação devem gerar chaves iguais")
+    void of_Unpaged_DeveGerarChavesIguais() {
+        assertThat(CacheKey.of(LISTAR, Pageable.unpaged())).isEqualTo(CacheKey.of(LISTAR, Pageable.unpaged()));
+        assertThat(CacheKey.of(LISTAR, Pageable.unpaged())).isNotEqualTo(CacheKey.of(LISTAR, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    @DisplayName("Ordenação diferente deve gerar chave diferente")
+    void of_OrdenacaoDiferente_DeveGerarChaveDiferente() {
+        CacheKey porNome = CacheKey.of(LISTAR, PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "nome")));
+        CacheKey porNomeDesc = CacheKey.of(LISTAR, PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "nome")));
+        CacheKey porEmail = CacheKey.of(LISTAR, PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "email")));
+
+        assertThat(porNome).isNotEqualTo(porNomeDesc).isNotEqualTo(porEmail);
+    }
+
+    @Test
+    @DisplayName("Página ou tamanho diferentes devem gerar chave diferente")
+    void of_PaginaDiferente_DeveGerarChaveDiferente() {
+        assertThat(CacheKey.of(LISTAR, PageRequest.of(0, 20))).isNotEqualTo(CacheKey.of(LISTAR, PageRequest.of(1, 20)));
+        assertThat(CacheKey.of(LISTAR, PageRequest.of(0, 20))).isNotEqualTo(CacheKey.of(LISTAR, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    @DisplayName("Geração diferente deve gerar chave diferente")
+    void of_GeracaoDiferente_DeveGerarChaveDiferente() {
+        Pageable pageable = PageRequest.of(0, 20);
+
+        assertThat(CacheKey.of(LISTAR, 1L, new Object[] { pageable })).isNotEqualTo(CacheKey.of(LISTAR, 2L, new Object[] { pageable }));
+    }
+
+    @Test
+    @DisplayName("Métodos diferentes devem gerar chaves diferentes")
+    void of_MetodoDiferente_DeveGerarChaveDiferente() {
+        Pageable pageable = PageRequest.of(0, 20);
+
+        assertThat(CacheKey.of(LISTAR, pageable)).isNotEqualTo(CacheKey.of(LISTAR_SEM_TOTAL, pageable));
+    }
+
+    @Test
+    @DisplayName("Argumentos devem reconstruir um Pageable equivalente ao original")
+    void argumentos_DeveReconstruirPageable() {
+        Pageable original = PageRequest.of(3, 15, Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by("id")));
+
+        Object[] argumentos = CacheKey.of(LISTAR, original).argumentos();
+
+        assertThat(argumentos).containsExactly(original);
+        assertThat(CacheKey.of(LISTAR, argumentos)).isEqualTo(CacheKey.of(LISTAR, original));
+        assertThat(CacheKey.of(LISTAR, Pageable.unpaged()).argumentos()[0]).matches(p -> ((Pageable) p).isUnpaged());
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.projeto.spring.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.projeto.spring.config.CacheProperties;
+import br.com.projeto.spring.repository.projection.VersaoListagem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ContagemCacheTest {
+
+    private final CacheGeracoes geracoes =
+            new CacheGeracoes(new CacheProperties(), Duration.ofMinutes(10), Duration.ZERO);
+
+    private final ContagemCache contagens =
+            new ContagemCache(geracoes, null, new SimpleMeterRegistry(), 100, Duration.ofMinutes(10), 0);
+
+    private final AtomicInteger consultas = new AtomicInteger();
+
+    private final Supplier<VersaoListagem> consulta =
+            () -> new VersaoListagem(consultas.incrementAndGet(), LocalDateTime.of(2024, 1, 1, 0, 0));
+
+    @Test
+    @DisplayName("Versão deve ser consultada uma única vez enquanto a geração não muda")
+    void versao_MesmaGeracao_DeveReutilizarConsulta() {
+        VersaoListagem primeira = contagens.versao(consulta, CacheGeracoes.LABORATORIOS);
+        VersaoListagem segunda = contagens.versao(consulta, CacheGeracoes.LABORATORIOS);
+
+        assertThat(segunda).isEqualTo(primeira);
+        assertThat(consultas).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Versão deve ser consultada novamente quando qualquer um dos escopos é incrementado")
+    void versao_EscopoIncrementado_DeveConsultarNovamente() {
+        contagens.versao(consulta, CacheGeracoes.REMEDIOS, CacheGeracoes.RESUMO_LABORATORIOS);
+
+        geracoes.incrementar(CacheGeracoes.RESUMO_LABORATORIOS);
+        contagens.versao(consulta, CacheGeracoes.REMEDIOS, CacheGeracoes.RESUMO_LABORATORIOS);
+        assertThat(consultas).hasValue(2);
+
+        geracoes.incrementar(CacheGeracoes.REMEDIOS);
+        contagens.versao(consulta, CacheGeracoes.REMEDIOS, CacheGeracoes.RESUMO_LABORATORIOS);
+        assertThat(consultas).hasValue(3);
+
+        geracoes.incrementar(CacheGeracoes.LABORATORIOS);
+        contagens.versao(consulta, CacheGeracoes.REMEDIOS, CacheGeracoes.RESUMO_LABORATORIOS);
+        assertThat(consultas).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Listagens com escopos diferentes não devem compartilhar a versão")
+    void versao_EscoposDiferentes_DeveSepararEntradas() {
+        contagens.versao(consulta, CacheGeracoes.remediosDoLaboratorio(1L));
+        contagens.versao(consulta, CacheGeracoes.remediosDoLaboratorio(2L));
+
+        assertThat(consultas).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Limpar deve descartar as versões junto com as contagens")
+    void limpar_DeveDescartarVersoes() {
+        contagens.versao(consulta, CacheGeracoes.LABORATORIOS);
+        contagens.limpar();
+        contagens.versao(consulta, CacheGeracoes.LABORATORIOS);
+
+        assertThat(consultas).hasValue(2);
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.projeto.spring.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import br.com.projeto.spring.config.CacheProperties;
+
+class CustomKeyGeneratorTest {
+
+    static class ServicoFake {
+
+        @Cacheable(cacheNames = "laboratorioPages")
+        public Object listarLaboratorios(Pageable pageable) {
+            return null;
+        }
+
+        @Cacheable(cacheNames = "laboratorioRemedios")
+        public Object listarRemediosDoLaboratorio(Long id, Pageable pageable) {
+            return null;
+        }
+
+        public Object semCache(Pageable pageable) {
+            return null;
+        }
+    }
+
+    private final ServicoFake alvo = new ServicoFake();
+    private final CacheGeracoes geracoes = new CacheGeracoes(new CacheProperties(), Duration.ofMinutes(10), Duration.ZERO);
+    private final CustomKeyGenerator keyGenerator = new CustomKeyGenerator(geracoes);
+
+    private static Method metodo(String nome, Class<?>... tipos) throws NoSuchMethodException {
+        return ServicoFake.class.getMethod(nome, tipos);
+    }
+
+    @Test
+    @DisplayName("Mesmos parâmetros e mesma geração devem gerar a mesma chave")
+    void generate_MesmaGeracao_DeveGerarMesmaChave() throws Exception {
+        Method listar = metodo("listarLaboratorios", Pageable.class);
+
+        assertThat(keyGenerator.generate(alvo, listar, PageRequest.of(0, 20)))
+                .isEqualTo(keyGenerator.generate(alvo, listar, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    @DisplayName("Incrementar o escopo do cache deve gerar uma chave nova")
+    void generate_EscopoIncrementado_DeveGerarChaveDiferente() throws Exception {
+        Method listar = metodo("listarLaboratorios", Pageable.class);
+        Object antes = keyGenerator.generate(alvo, listar, PageRequest.of(0, 20));
+
+        geracoes.incrementar(CacheGeracoes.LABORATORIOS);
+
+        assertThat(keyGenerator.generate(alvo, listar, PageRequest.of(0, 20))).isNotEqualTo(antes);
+    }
+
+    @Test
+    @DisplayName("Incrementar o escopo de outro laboratório não deve alterar a chave")
+    void generate_EscopoDeOutroLaboratorio_DeveManterChave() throws Exception {
+        Method listar = metodo("listarRemediosDoLaboratorio", Long.class, Pageable.class);
+        Object antes = keyGenerator.generate(alvo, listar, 1L, PageRequest.of(0, 20));
+
+        geracoes.incrementar(CacheGeracoes.remediosDoLaboratorio(2L));
+        assertThat(keyGenerator.generate(alvo, listar, 1L, PageRequest.of(0, 20))).isEqualTo(antes);
+
+        geracoes.incrementar(CacheGeracoes.remediosDoLaboratorio(1L));
+        assertThat(keyGenerator.generate(alvo, listar, 1L, PageRequest.of(0, 20))).isNotEqualTo(antes);
+    }
+
+    @Test
+    @DisplayName("Métodos sem @Cacheable devem usar a geração zero")
+    void generate_SemCacheable_DeveIgnorarGeracoes() throws Exception {
+        Method semCache = metodo("semCache", Pageable.class);
+        Object antes = keyGenerator.generate(alvo, semCache, PageRequest.of(0, 20));
+
+        geracoes.incrementar(CacheGeracoes.LABORATORIOS);
+
+        assertThat(keyGenerator.generate(alvo, semCache, PageRequest.of(0, 20))).isEqualTo(antes)
+                .isEqualTo(CacheKey.of(semCache, 0L, new Object[] { PageRequest.of(0, 20) }));
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.projeto.spring.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.projeto.spring.cache.RespostaSerializadaCache.Serializado;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RespostaSerializadaCacheTest {
+
+    private static final int TAMANHO_MINIMO_GZIP = 256;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RespostaSerializadaCache criarCache(boolean habilitado) {
+        return new RespostaSerializadaCache(objectMapper, new SimpleMeterRegistry(), habilitado, true,
+                TAMANHO_MINIMO_GZIP, 1 << 20);
+    }
+
+    private record Dto(String nome, List<String> itens) {}
+
+    private static Dto dtoGrande() {
+        return new Dto("grande", Collections.nCopies(100, "item repetido"));
+    }
+
+    private static byte[] descomprimir(byte[] gzip) throws IOException {
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return entrada.readAllBytes();
+        }
+    }
+
+    @Test
+    @DisplayName("Instância que não veio de um cache de DTO não deve ser memoizada")
+    void memoizado_NaoRegistrado_DeveRetornarNull() {
+        RespostaSerializadaCache cache = criarCache(true);
+
+        assertThat(cache.memoizado(dtoGrande(), true)).isNull();
+    }
+
+    @Test
+    @DisplayName("Instância reutilizada deve ter o JSON memoizado")
+    void memoizado_Registrado_DeveReutilizarBytes() throws Exception {
+        RespostaSerializadaCache cache = criarCache(true);
+        Dto dto = new Dto("Dipirona", List.of("a"));
+
+        cache.registrarReutilizado(dto);
+        Serializado primeiro = cache.memoizado(dto, false);
+        Serializado segundo = cache.memoizado(dto, false);
+
+        assertThat(primeiro.json()).isEqualTo(objectMapper.writeValueAsBytes(dto));
+        assertThat(segundo.json()).isSameAs(primeiro.json());
+    }
+
+    @Test
+    @DisplayName("Instância igual, mas não idêntica, não deve usar os bytes memoizados")
+    void memoizado_InstanciaIgual_DeveUsarIdentidade() {
+        RespostaSerializadaCache cache = criarCache(true);
+        Dto dto = new Dto("Dipirona", List.of("a"));
+
+        cache.registrarReutilizado(dto);
+
+        assertThat(cache.memoizado(new Dto("Dipirona", List.of("a")), false)).isNull();
+    }
+
+    @Test
+    @DisplayName("Variante gzip deve ser gerada apenas quando um cliente a aceita")
+    void memoizado_Gzip_DeveSerGeradoSobDemanda() throws Exception {
+        RespostaSerializadaCache cache = criarCache(true);
+        Dto dto = dtoGrande();
+
+        cache.registrarReutilizado(dto);
+
+        assertThat(cache.memoizado(dto, false).gzip()).isNull();
+
+        Serializado comGzip = cache.memoizado(dto, true);
+
+        assertThat(comGzip.gzip()).isNotNull();
+        assertThat(descomprimir(comGzip.gzip())).isEqualTo(comGzip.json());
+        assertThat(cache.memoizado(dto, true).gzip()).isSameAs(comGzip.gzip());
+        assertThat(cache.memoizado(dto, false).gzip()).isSameAs(comGzip.gzip());
+    }
+
+    @Test
+    @DisplayName("JSON abaixo do tamanho mínimo não deve ser comprimido")
+    void memoizado_JsonPequeno_NaoDeveComprimir() {
+        RespostaSerializadaCache cache = criarCache(true);
+        Dto dto = new Dto("pequeno", List.of());
+
+        cache.registrarReutilizado(dto);
+        Serializado serializado = cache.memoizado(dto, true);
+
+        assertThat(serializado.gzip()).isNull();
+        assertThat(cache.comprimivel(serializado.json())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Com o cache desabilitado nada deve ser memoizado")
+    void registrarReutilizado_Desabilitado_NaoDeveMemoizar() {
+        RespostaSerializadaCache cache = criarCache(false);
+        Dto dto = dtoGrande();
+
+        cache.registrarReutilizado(dto);
+
+        assertThat(cache.memoizado(dto, true)).isNull();
+    }
+}
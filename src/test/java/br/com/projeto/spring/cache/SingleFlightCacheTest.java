@@ -0,0 +1,185 @@
+package br.com.projeto.spring.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache.ValueRetrievalException;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightCacheTest {
+
+    private static final int THREADS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private SingleFlightCache criarCache(Duration timeout) {
+        return new SingleFlightCache(new ConcurrentMapCache("teste"), timeout, meterRegistry);
+    }
+
+    private double contador(String resultado) {
+        return meterRegistry.get("cache.singleflight").tag("resultado", resultado).counter().count();
+    }
+
+    // Aguarda até que as demais threads estejam esperando pelo carregamento do líder
+    private void aguardarCoalescidos(int quantidade) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (contador("coalescido") < quantidade && System.nanoTime() < limite) {
+            Thread.sleep(5);
+        }
+
+        assertThat(contador("coalescido")).isEqualTo(quantidade);
+    }
+
+    @Test
+    @DisplayName("Misses simultâneos da mesma chave devem executar um único carregamento")
+    void get_MissesSimultaneos_DeveCarregarUmaVez() throws Exception {
+        SingleFlightCache cache = criarCache(Duration.ofSeconds(10));
+        AtomicInteger carregamentos = new AtomicInteger();
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        List<Future<String>> resultados = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            resultados.add(executor.submit(() -> cache.get("chave", () -> {
+                carregamentos.incrementAndGet();
+                liberar.await();
+                return "valor";
+            })));
+        }
+
+        aguardarCoalescidos(THREADS - 1);
+        liberar.countDown();
+
+        for (Future<String> resultado : resultados) {
+            assertThat(resultado.get(5, TimeUnit.SECONDS)).isEqualTo("valor");
+        }
+
+        assertThat(carregamentos).hasValue(1);
+        assertThat(cache.get("chave").get()).isEqualTo("valor");
+    }
+
+    @Test
+    @DisplayName("Após o timeout a thread em espera deve carregar o valor por conta própria")
+    void get_CarregamentoLento_DeveCarregarAposTimeout() throws Exception {
+        SingleFlightCache cache = criarCache(Duration.ofMillis(100));
+        CountDownLatch liderIniciou = new CountDownLatch(1);
+        CountDownLatch liberarLider = new CountDownLatch(1);
+
+        Future<String> lider = executor.submit(() -> cache.get("chave", () -> {
+            liderIniciou.countDown();
+            liberarLider.await();
+            return "lider";
+        }));
+
+        liderIniciou.await(5, TimeUnit.SECONDS);
+
+        long inicio = System.nanoTime();
+        String valor = cache.get("chave", () -> "proprio");
+
+        assertThat(valor).isEqualTo("proprio");
+        assertThat(Duration.ofNanos(System.nanoTime() - inicio)).isGreaterThanOrEqualTo(Duration.ofMillis(100))
+                .isLessThan(Duration.ofSeconds(5));
+        assertThat(contador("timeout")).isEqualTo(1);
+        assertThat(lider.isDone()).isFalse();
+
+        liberarLider.countDown();
+
+        // O líder não sobrescreve o valor gravado depois do início do seu carregamento
+        assertThat(lider.get(5, TimeUnit.SECONDS)).isEqualTo("proprio");
+        assertThat(cache.get("chave").get()).isEqualTo("proprio");
+    }
+
+    @Test
+    @DisplayName("Exceção do carregamento deve chegar a todas as threads em espera sem deixar carregamento pendente")
+    void get_CarregamentoComFalha_DevePropagarParaTodos() throws Exception {
+        SingleFlightCache cache = criarCache(Duration.ofSeconds(10));
+        IllegalStateException falha = new IllegalStateException("banco indisponível");
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        List<Future<String>> resultados = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            resultados.add(executor.submit(() -> cache.get("chave", () -> {
+                liberar.await();
+                throw falha;
+            })));
+        }
+
+        aguardarCoalescidos(THREADS - 1);
+        liberar.countDown();
+
+        for (Future<String> resultado : resultados) {
+            assertThatThrownBy(() -> resultado.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                    .cause().isInstanceOf(ValueRetrievalException.class).hasCause(falha);
+        }
+
+        assertThat(cache.get("chave")).isNull();
+
+        // Sem carregamento pendente: a próxima chamada carrega imediatamente, sem aguardar o timeout
+        long inicio = System.nanoTime();
+        assertThat(cache.get("chave", () -> "valor")).isEqualTo("valor");
+        assertThat(Duration.ofNanos(System.nanoTime() - inicio)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Erro do carregamento deve liberar as threads em espera antes do timeout")
+    void get_CarregamentoComErro_DeveLiberarThreadsEmEspera() throws Exception {
+        SingleFlightCache cache = criarCache(Duration.ofSeconds(30));
+        CountDownLatch liderIniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        Future<String> lider = executor.submit(() -> cache.get("chave", () -> {
+            liderIniciou.countDown();
+            liberar.await();
+            throw new AssertionError("falha grave");
+        }));
+
+        liderIniciou.await(5, TimeUnit.SECONDS);
+        Future<String> espera = executor.submit(() -> cache.get("chave", () -> "nao usado"));
+
+        aguardarCoalescidos(1);
+        liberar.countDown();
+
+        assertThatThrownBy(() -> lider.get(5, TimeUnit.SECONDS)).cause().isInstanceOf(AssertionError.class);
+        assertThatThrownBy(() -> espera.get(5, TimeUnit.SECONDS)).cause().isInstanceOf(ValueRetrievalException.class)
+                .hasCauseInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    @DisplayName("Apenas valores devolvidos novamente devem ser informados como reutilizados")
+    void get_Hit_DeveInformarReutilizacao() {
+        List<Object> reutilizados = new ArrayList<>();
+        SingleFlightCache cache = new SingleFlightCache(new ConcurrentMapCache("teste"), Duration.ofSeconds(1),
+                meterRegistry, reutilizados::add);
+
+        String carregado = cache.get("chave", () -> new String("valor"));
+        assertThat(reutilizados).isEmpty();
+
+        String hit = cache.get("chave", () -> "outro");
+        assertThat(hit).isSameAs(carregado);
+        assertThat(reutilizados).singleElement().isSameAs(carregado);
+    }
+}
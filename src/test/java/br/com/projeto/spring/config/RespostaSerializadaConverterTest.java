@@ -0,0 +1,32 @@
+package br.com.projeto.spring.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class RespostaSerializadaConverterTest {
+
+    @ParameterizedTest(name = "[{0}] -> {1}")
+    @DisplayName("Deve respeitar gzip, curinga e qvalue do Accept-Encoding")
+    @CsvSource(delimiter = '|', nullValues = "NULL", value = {
+            "NULL | false",
+            "'' | false",
+            "gzip | true",
+            "GZIP | true",
+            "x-gzip | true",
+            "deflate, gzip;q=0.5 | true",
+            "br, deflate | false",
+            "gzip;q=0 | false",
+            "gzip; q=0.0 | false",
+            "gzip;q=0.001 | true",
+            "* | true",
+            "*;q=0 | false",
+            "gzip;q=0, * | false",
+            "br, *;q=0.1 | true",
+            "gzip;q=abc | false" })
+    void aceitaGzip(String aceitas, boolean esperado) {
+        assertThat(RespostaSerializadaConverter.aceitaGzip(aceitas)).isEqualTo(esperado);
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.projeto.spring.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FiltroBloomTest {
+
+    private static final int CAPACIDADE = 20_000;
+    private static final double TAXA = 0.01;
+
+    @Test
+    @DisplayName("Deve encontrar todos os elementos adicionados")
+    void podeConter_NaoDeveTerFalsoNegativo() {
+        FiltroBloom filtro = new FiltroBloom(CAPACIDADE, TAXA);
+        SplittableRandom random = new SplittableRandom(1);
+        long[][] elementos = new long[CAPACIDADE][];
+
+        for (int i = 0; i < CAPACIDADE; i++) {
+            elementos[i] = new long[] { random.nextLong(), random.nextLong() | 1L };
+            filtro.adicionar(elementos[i][0], elementos[i][1]);
+        }
+
+        for (long[] elemento : elementos) {
+            assertThat(filtro.podeConter(elemento[0], elemento[1])).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter a taxa de falso positivo próxima da configurada na capacidade")
+    void podeConter_DeveRespeitarTaxaDeFalsoPositivo() {
+        FiltroBloom filtro = new FiltroBloom(CAPACIDADE, TAXA);
+        SplittableRandom random = new SplittableRandom(2);
+
+        for (int i = 0; i < CAPACIDADE; i++) {
+            filtro.adicionar(random.nextLong(), random.nextLong() | 1L);
+        }
+
+        int consultas = 200_000;
+        int falsosPositivos = 0;
+
+        for (int i = 0; i < consultas; i++) {
+            if (filtro.podeConter(random.nextLong(), random.nextLong() | 1L)) {
+                falsosPositivos++;
+            }
+        }
+
+        double taxaObservada = (double) falsosPositivos / consultas;
+
+        assertThat(taxaObservada).isLessThan(TAXA * 1.5);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tudo quando vazio")
+    void podeConter_FiltroVazio_DeveRetornarFalse() {
+        FiltroBloom filtro = new FiltroBloom(CAPACIDADE, TAXA);
+        SplittableRandom random = new SplittableRandom(3);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(filtro.podeConter(random.nextLong(), random.nextLong() | 1L)).isFalse();
+        }
+    }
+}
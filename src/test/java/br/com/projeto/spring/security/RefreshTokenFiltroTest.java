@@ -0,0 +1,181 @@
+package br.com.projeto.spring.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RefreshTokenFiltroTest {
+
+    private record Linha(long id, Instant criadoEm, String hash) {}
+
+    /** Tabela {@code refresh_token} em memória; cada consulta devolve o keyset após (created_at, id). */
+    private static class JdbcTemplateFake extends JdbcTemplate {
+
+        private final List<Linha> linhas = new ArrayList<>();
+        private boolean falhar;
+        private int consultas;
+
+        void inserir(String hash, Instant criadoEm) {
+            linhas.add(new Linha(linhas.size() + 1, criadoEm, hash));
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            consultas++;
+
+            if (falhar) {
+                throw new DataAccessResourceFailureException("banco indisponível");
+            }
+
+            Instant cursorCriacao = ((Timestamp) args[0]).toInstant();
+            long cursorId = (Long) args[1];
+            int limite = (Integer) args[3];
+
+            List<Linha> pagina = linhas.stream()
+                    .filter(l -> l.criadoEm().isAfter(cursorCriacao)
+                            || l.criadoEm().equals(cursorCriacao) && l.id() > cursorId)
+                    .sorted(Comparator.comparing(Linha::criadoEm).thenComparingLong(Linha::id)).limit(limite)
+                    .toList();
+
+            try {
+                for (Linha linha : pagina) {
+                    ResultSet rs = Mockito.mock(ResultSet.class);
+                    Mockito.when(rs.getLong(1)).thenReturn(linha.id());
+                    Mockito.when(rs.getTimestamp(2)).thenReturn(Timestamp.from(linha.criadoEm()));
+                    Mockito.when(rs.getString(3)).thenReturn(linha.hash());
+                    rch.processRow(rs);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private final JdbcTemplateFake jdbcTemplate = new JdbcTemplateFake();
+
+    private RefreshTokenFiltro criarFiltro(Duration defasagemMaxima) {
+        RefreshTokenFiltro filtro = new RefreshTokenFiltro(jdbcTemplate, new SimpleMeterRegistry(), true, 10_000,
+                0.01, Duration.ofMinutes(1), defasagemMaxima);
+
+        filtro.reconstruir();
+        return filtro;
+    }
+
+    private static String novoHash() {
+        byte[] bytes = new byte[32];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar tokens carregados na reconstrução")
+    void podeExistir_TokenCarregado_DeveRetornarTrue() {
+        String hash = novoHash();
+        jdbcTemplate.inserir(hash, Instant.now().minus(Duration.ofDays(1)));
+
+        RefreshTokenFiltro filtro = criarFiltro(Duration.ofHours(1));
+
+        assertThat(filtro.podeExistir(hash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token desconhecido com o filtro sincronizado, sem consultar o banco")
+    void podeExistir_FiltroSincronizado_DeveRejeitar() {
+        RefreshTokenFiltro filtro = criarFiltro(Duration.ofHours(1));
+        int consultasAntes = jdbcTemplate.consultas;
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(filtro.podeExistir(novoHash())).isFalse();
+        }
+
+        assertThat(jdbcTemplate.consultas).isEqualTo(consultasAntes);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar token criado em outro nó após a sincronização seguinte")
+    void podeExistir_TokenCriadoEmOutroNo_DeveAceitarAposSincronizar() {
+        RefreshTokenFiltro filtro = criarFiltro(Duration.ofHours(1));
+        String hash = novoHash();
+        jdbcTemplate.inserir(hash, Instant.now());
+
+        filtro.sincronizar();
+
+        assertThat(filtro.podeExistir(hash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve carregar token confirmado depois da sincronização com created_at anterior a ela")
+    void sincronizar_CommitAtrasadoDentroDaJanela_DeveCarregar() {
+        RefreshTokenFiltro filtro = criarFiltro(Duration.ofHours(1));
+        filtro.sincronizar();
+
+        // created_at atribuído antes da última sincronização, mas confirmado só agora
+        String hash = novoHash();
+        jdbcTemplate.inserir(hash, Instant.now().minusSeconds(30));
+
+        filtro.sincronizar();
+
+        assertThat(filtro.podeExistir(hash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve aceitar token criado neste nó sem esperar a sincronização")
+    void adicionar_TokenCriadoNoNo_DeveAceitar() {
+        RefreshTokenFiltro filtro = criarFiltro(Duration.ofHours(1));
+        String hash = novoHash();
+
+        filtro.adicionar(hash);
+
+        assertThat(filtro.podeExistir(hash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve encaminhar ao banco o miss com o filtro defasado por falha na sincronização")
+    void podeExistir_SincronizacaoComFalha_DeveEncaminharAposDefasagem() throws InterruptedException {
+        RefreshTokenFiltro filtro = criarFiltro(Duration.ofMillis(50));
+        String hash = novoHash();
+
+        assertThat(filtro.podeExistir(hash)).isFalse();
+
+        jdbcTemplate.falhar = true;
+        Thread.sleep(100);
+        filtro.sincronizar();
+
+        assertThat(filtro.podeExistir(hash)).isTrue();
+
+        jdbcTemplate.falhar = false;
+        filtro.sincronizar();
+
+        assertThat(filtro.podeExistir(hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve encaminhar tudo ao banco antes da primeira carga")
+    void podeExistir_SemCarga_DeveRetornarTrue() {
+        RefreshTokenFiltro filtro = new RefreshTokenFiltro(jdbcTemplate, new SimpleMeterRegistry(), true, 10_000,
+                0.01, Duration.ofMinutes(1), Duration.ofHours(1));
+
+        filtro.sincronizar();
+
+        assertThat(filtro.podeExistir(novoHash())).isTrue();
+        assertThat(jdbcTemplate.consultas).isZero();
+    }
+}
@@ -0,0 +1,145 @@
+package br.com.projeto.spring.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import br.com.projeto.spring.cache.CacheGeracoes;
+import br.com.projeto.spring.cache.CacheInvalidator;
+import br.com.projeto.spring.domain.dto.request.laboratorio.LaboratorioUpdateRequest;
+import br.com.projeto.spring.domain.model.Laboratorio;
+import br.com.projeto.spring.exception.ResourceNotFoundException;
+import br.com.projeto.spring.mapper.LaboratorioMapper;
+import br.com.projeto.spring.repository.LaboratorioRepository;
+import br.com.projeto.spring.repository.projection.LaboratorioNome;
+import br.com.projeto.spring.validation.LaboratorioValidator;
+
+class LaboratorioServiceImplTest {
+
+    private static final Long LAB_ID = 7L;
+
+    @Mock
+    private LaboratorioRepository repository;
+
+    @Spy
+    private LaboratorioMapper mapper;
+
+    @Mock
+    private LaboratorioValidator validator;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @InjectMocks
+    private LaboratorioServiceImpl laboratorioService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        Laboratorio laboratorio = new Laboratorio();
+        laboratorio.setId(LAB_ID);
+        laboratorio.setNome("LabTest");
+        laboratorio.setEndereco("Rua A");
+
+        when(repository.findById(LAB_ID)).thenReturn(Optional.of(laboratorio));
+    }
+
+    @Test
+    @DisplayName("Atualização sem alterar o nome não deve invalidar os caches de remédios")
+    void atualizarLaboratorio_SemAlterarNome_NaoDeveInvalidarRemedios() {
+        laboratorioService.atualizarLaboratorio(LAB_ID, new LaboratorioUpdateRequest(null, "Rua B", null));
+
+        verify(cacheInvalidator).invalidar(CacheGeracoes.LABORATORIOS, CacheGeracoes.laboratorio(LAB_ID));
+        verifyNoMoreInteractions(cacheInvalidator);
+    }
+
+    @Test
+    @DisplayName("Atualização com o mesmo nome não deve invalidar os caches de remédios")
+    void atualizarLaboratorio_MesmoNome_NaoDeveInvalidarRemedios() {
+        laboratorioService.atualizarLaboratorio(LAB_ID, new LaboratorioUpdateRequest("LabTest", null, null));
+
+        verify(cacheInvalidator).invalidar(CacheGeracoes.LABORATORIOS, CacheGeracoes.laboratorio(LAB_ID));
+        verifyNoMoreInteractions(cacheInvalidator);
+    }
+
+    @Test
+    @DisplayName("Alteração do nome deve invalidar o resumo exibido nos remédios")
+    void atualizarLaboratorio_AlterandoNome_DeveInvalidarRemedios() {
+        laboratorioService.atualizarLaboratorio(LAB_ID, new LaboratorioUpdateRequest("LabNovo", null, null));
+
+        verify(cacheInvalidator).invalidar(CacheGeracoes.RESUMO_LABORATORIOS);
+        verify(cacheInvalidator).invalidar(CacheGeracoes.LABORATORIOS, CacheGeracoes.laboratorio(LAB_ID),
+                CacheGeracoes.remediosDoLaboratorio(LAB_ID));
+        verifyNoMoreInteractions(cacheInvalidator);
+    }
+
+    @Test
+    @DisplayName("Exclusão em lote deve validar e excluir os IDs distintos, retornando a quantidade excluída")
+    void deletarLaboratorioEmLote_IdsRepetidos_DeveExcluirDistintos() {
+        when(repository.buscarNomes(List.of(LAB_ID, 8L)))
+                .thenReturn(List.of(new LaboratorioNome(LAB_ID, "LabTest"), new LaboratorioNome(8L, "LabOutro")));
+        when(repository.deletarPorIds(new Long[] { LAB_ID, 8L })).thenReturn(2);
+
+        var resposta = laboratorioService.deletarLaboratorioEmLote(List.of(LAB_ID, 8L, LAB_ID));
+
+        assertThat(resposta.excluidos()).isEqualTo(2);
+        verify(validator).validarExclusaoPorId(Map.of(LAB_ID, "LabTest", 8L, "LabOutro"), List.of(LAB_ID, 8L));
+        verify(cacheInvalidator).invalidar(CacheGeracoes.LABORATORIOS, CacheGeracoes.laboratorio(LAB_ID),
+                CacheGeracoes.remediosDoLaboratorio(LAB_ID), CacheGeracoes.laboratorio(8L),
+                CacheGeracoes.remediosDoLaboratorio(8L));
+        verifyNoMoreInteractions(cacheInvalidator);
+    }
+
+    @Test
+    @DisplayName("Exclusão em lote deve retornar a quantidade efetivamente excluída pelo banco")
+    void deletarLaboratorioEmLote_ExcluidoConcorrentemente_DeveRetornarQuantidadeDoBanco() {
+        when(repository.buscarNomes(List.of(LAB_ID, 8L)))
+                .thenReturn(List.of(new LaboratorioNome(LAB_ID, "LabTest"), new LaboratorioNome(8L, "LabOutro")));
+        when(repository.deletarPorIds(any())).thenReturn(1);
+
+        assertThat(laboratorioService.deletarLaboratorioEmLote(List.of(LAB_ID, 8L)).excluidos()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Exclusão em lote com IDs não encontrados não deve excluir nem invalidar caches")
+    void deletarLaboratorioEmLote_IdsNaoEncontrados_NaoDeveExcluir() {
+        when(repository.buscarNomes(List.of(LAB_ID, 9L))).thenReturn(List.of(new LaboratorioNome(LAB_ID, "LabTest")));
+        doThrow(new ResourceNotFoundException("9")).when(validator)
+                .validarExclusaoPorId(Map.of(LAB_ID, "LabTest"), List.of(LAB_ID, 9L));
+
+        assertThatThrownBy(() -> laboratorioService.deletarLaboratorioEmLote(List.of(LAB_ID, 9L)))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        verify(repository, never()).deletarPorIds(any());
+        verifyNoMoreInteractions(cacheInvalidator);
+    }
+
+    @Test
+    @DisplayName("Exclusão em lote sem IDs não deve acessar o banco")
+    void deletarLaboratorioEmLote_ListaVazia_DeveRetornarZero() {
+        assertThat(laboratorioService.deletarLaboratorioEmLote(List.of()).excluidos()).isZero();
+
+        verify(repository, never()).buscarNomes(anyList());
+        verify(repository, never()).deletarPorIds(any());
+        verifyNoMoreInteractions(validator, cacheInvalidator);
+    }
+}
@@ -30,6 +30,7 @@ import br.com.projeto.spring.domain.model.Via;
 import br.com.projeto.spring.mapper.RemedioMapper;
 import br.com.projeto.spring.repository.LaboratorioRepository;
 import br.com.projeto.spring.repository.RemedioRepository;
+import br.com.projeto.spring.repository.projection.RemedioResumo;
 
 class RemedioServiceImplTest {
 
@@ -105,13 +106,15 @@ class RemedioServiceImplTest {
     @DisplayName("Deve retornar PageResponse com lista de RemedioResponse quando houver dados")
     void listarTodosRemedios_DeveRetornarPageResponseComLista() {
         Remedio remedio = criarRemedioCompleto();
-        List<Remedio> remedios = List.of(remedio);
+        LocalDateTime now = LocalDateTime.now();
+        List<RemedioResumo> remedios = List.of(new RemedioResumo(remedio.getId(), remedio.getNome(), remedio.getVia(),
+                remedio.getLote(), remedio.getValidade(), remedio.getLaboratorio().getId(),
+                remedio.getLaboratorio().getNome(), now, now));
 
-        Page<Remedio> page = new PageImpl<>(remedios, Pageable.unpaged(), remedios.size());
+        Page<RemedioResumo> page = new PageImpl<>(remedios, Pageable.unpaged(), remedios.size());
 
-        LocalDateTime now = LocalDateTime.now();
-        when(repository.findAll(any(Pageable.class))).thenReturn(page);
-        when(mapper.toResponse(any(Remedio.class))).thenReturn(new RemedioResponse(remedio.getId(), remedio.getNome(),
+        when(repository.listarResumos(any(Pageable.class))).thenReturn(page);
+        when(mapper.toResponse(any(RemedioResumo.class))).thenReturn(new RemedioResponse(remedio.getId(), remedio.getNome(),
                 remedio.getVia(), remedio.getLote(), remedio.getValidade(),
                 new LaboratorioResumoResponse(remedio.getLaboratorio().getId(), remedio.getLaboratorio().getNome()),
                 now, now));
@@ -130,9 +133,9 @@ class RemedioServiceImplTest {
     @Test
     @DisplayName("Deve retornar PageResponse vazio quando não houver dados")
     void listarTodosRemedios_DeveRetornarPageResponseVazio() {
-        Page<Remedio> page = new PageImpl<>(List.of());
+        Page<RemedioResumo> page = new PageImpl<>(List.of());
 
-        when(repository.findAll(any(Pageable.class))).thenReturn(page);
+        when(repository.listarResumos(any(Pageable.class))).thenReturn(page);
 
         PageResponse<RemedioResponse> response = remedioService.listarRemedios(Pageable.unpaged());
 
@@ -0,0 +1,54 @@
+package br.com.projeto.spring.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import br.com.projeto.spring.exception.ValidationException;
+import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
+
+class OrdenacaoPermitidaTest {
+
+    @Test
+    @DisplayName("ID como desempate final deve ser aceito mesmo fora da lista de campos")
+    void permiteCursor_IdComoDesempate_DeveAceitar() {
+        assertThat(OrdenacaoPermitida.REMEDIO_POR_LABORATORIO.permiteCursor(Sort.by("createdAt", "id"))).isTrue();
+        assertThatCode(() -> OrdenacaoPermitida.REMEDIO_POR_LABORATORIO.validarCursor(Sort.by("createdAt", "id")))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("ID como chave principal deve exigir o campo na lista (índice próprio)")
+    void permiteCursor_IdComoChavePrincipal_DeveExigirCampo() {
+        assertThat(OrdenacaoPermitida.REMEDIO_POR_LABORATORIO.permite("id")).isFalse();
+        assertThat(OrdenacaoPermitida.REMEDIO_POR_LABORATORIO.permiteCursor(Sort.by("id"))).isFalse();
+        assertThat(OrdenacaoPermitida.REMEDIO_POR_LABORATORIO.permiteCursor(Sort.by("id", "createdAt"))).isFalse();
+
+        assertThat(OrdenacaoPermitida.REMEDIO.permiteCursor(Sort.by("id"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Campo anulável deve ser rejeitado no cursor")
+    void validarCursor_CampoAnulavel_DeveLancarExcecao() {
+        assertThatThrownBy(() -> OrdenacaoPermitida.REMEDIO.validarCursor(Sort.by("validade", "id")))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage(ValidationMessagesKeys.PAGINACAO_ORDENACAO_INVALIDA);
+    }
+
+    @Test
+    @DisplayName("Cursor adulterado para ordenar remédios do laboratório apenas por ID deve ser rejeitado")
+    void decodificar_RemedioPorLaboratorioSomenteId_DeveLancarExcecao() {
+        String cursor = UtilCursor.codificar(Sort.by("id"), ScrollPosition.forward(Map.of("id", 10L)));
+
+        assertThatThrownBy(() -> UtilCursor.decodificar(cursor, Sort.unsorted(),
+                OrdenacaoPermitida.REMEDIO_POR_LABORATORIO)).isInstanceOf(ValidationException.class)
+                .hasMessage(ValidationMessagesKeys.PAGINACAO_CURSOR_INVALIDO);
+    }
+}
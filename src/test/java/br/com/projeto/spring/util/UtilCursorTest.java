@@ -0,0 +1,148 @@
+package br.com.projeto.spring.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import br.com.projeto.spring.domain.model.Via;
+import br.com.projeto.spring.exception.ValidationException;
+import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
+
+class UtilCursorTest {
+
+    private static String cursor(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertCursorInvalido(String cursor, OrdenacaoPermitida permitidos) {
+        assertThatThrownBy(() -> UtilCursor.decodificar(cursor, Sort.unsorted(), permitidos))
+                .isInstanceOf(ValidationException.class).hasMessage(ValidationMessagesKeys.PAGINACAO_CURSOR_INVALIDO);
+    }
+
+    @Test
+    @DisplayName("Cursor codificado deve ser decodificado com a mesma ordenação e chaves tipadas")
+    void decodificar_CursorCodificado_DeveRestaurarPosicao() {
+        Sort sort = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+        Map<String, Object> chaves = new LinkedHashMap<>();
+        chaves.put("createdAt", LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123456000));
+        chaves.put("id", 42L);
+
+        String cursor = UtilCursor.codificar(sort, ScrollPosition.forward(chaves));
+        UtilCursor.Posicao posicao = UtilCursor.decodificar(cursor, Sort.by("nome"), OrdenacaoPermitida.REMEDIO);
+
+        assertThat(posicao.sort()).isEqualTo(sort);
+        assertThat(posicao.posicao().getKeys()).isEqualTo(chaves);
+        assertThat(cursor).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    @DisplayName("Sem cursor deve começar do início com o ID como desempate na mesma direção")
+    void decodificar_SemCursor_DeveGerarPosicaoInicial() {
+        UtilCursor.Posicao posicao =
+                UtilCursor.decodificar("", Sort.by(Sort.Direction.DESC, "nome"), OrdenacaoPermitida.LABORATORIO);
+
+        assertThat(posicao.sort()).isEqualTo(Sort.by(Sort.Order.desc("nome"), Sort.Order.desc("id")));
+        assertThat(posicao.posicao().isInitial()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Campo anulável não deve ser aceito na paginação por cursor")
+    void decodificar_SemCursorCampoAnulavel_DeveLancarExcecao() {
+        assertThatThrownBy(() -> UtilCursor.decodificar(null, Sort.by("validade"), OrdenacaoPermitida.REMEDIO))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage(ValidationMessagesKeys.PAGINACAO_ORDENACAO_INVALIDA);
+    }
+
+    @Test
+    @DisplayName("Cursor que não é Base64 ou JSON deve ser rejeitado")
+    void decodificar_CursorMalformado_DeveLancarExcecao() {
+        assertCursorInvalido("%%%", OrdenacaoPermitida.REMEDIO);
+        assertCursorInvalido(cursor("{\"s\":"), OrdenacaoPermitida.REMEDIO);
+        assertCursorInvalido(cursor("{}"), OrdenacaoPermitida.REMEDIO);
+    }
+
+    @Test
+    @DisplayName("Chaves que não correspondem à ordenação devem ser rejeitadas")
+    void decodificar_ChavesDivergentes_DeveLancarExcecao() {
+        // Sem o ID
+        assertCursorInvalido(cursor("{\"s\":[[\"nome\",\"ASC\"]],\"k\":{\"nome\":[\"S\",\"a\"]}}"),
+                OrdenacaoPermitida.REMEDIO);
+
+        // Chave a mais
+        assertCursorInvalido(cursor("{\"s\":[[\"id\",\"ASC\"]],\"k\":{\"id\":[\"L\",\"1\"],\"nome\":[\"S\",\"a\"]}}"),
+                OrdenacaoPermitida.REMEDIO);
+
+        // Chave de outro campo
+        assertCursorInvalido(cursor("{\"s\":[[\"nome\",\"ASC\"],[\"id\",\"ASC\"]],"
+                + "\"k\":{\"createdAt\":[\"T\",\"2024-01-01T00:00\"],\"id\":[\"L\",\"1\"]}}"), OrdenacaoPermitida.REMEDIO);
+    }
+
+    @Test
+    @DisplayName("Cursor com campo fora da lista permitida da listagem deve ser rejeitado")
+    void decodificar_CampoNaoPermitido_DeveLancarExcecao() {
+        String porValidade = UtilCursor.codificar(Sort.by(Sort.Order.asc("validade"), Sort.Order.asc("id")),
+                ScrollPosition.forward(Map.of("validade", LocalDate.of(2025, 1, 1), "id", 1L)));
+        String porUsername = UtilCursor.codificar(Sort.by(Sort.Order.asc("username"), Sort.Order.asc("id")),
+                ScrollPosition.forward(Map.of("username", "admin", "id", 1L)));
+
+        assertCursorInvalido(porValidade, OrdenacaoPermitida.REMEDIO);
+        assertCursorInvalido(porUsername, OrdenacaoPermitida.LABORATORIO);
+        assertThat(UtilCursor.decodificar(porUsername, Sort.unsorted(), OrdenacaoPermitida.USUARIO).sort())
+                .isEqualTo(Sort.by(Sort.Order.asc("username"), Sort.Order.asc("id")));
+    }
+
+    @Test
+    @DisplayName("Cursor com direções diferentes entre as chaves deve ser rejeitado")
+    void decodificar_DirecoesDiferentes_DeveLancarExcecao() {
+        assertCursorInvalido(cursor("{\"s\":[[\"nome\",\"ASC\"],[\"id\",\"DESC\"]],"
+                + "\"k\":{\"nome\":[\"S\",\"a\"],\"id\":[\"L\",\"1\"]}}"), OrdenacaoPermitida.REMEDIO);
+    }
+
+    @Test
+    @DisplayName("Valor com tipo divergente do declarado deve ser rejeitado")
+    void decodificar_ValorAdulterado_DeveLancarExcecao() {
+        assertCursorInvalido(cursor("{\"s\":[[\"id\",\"ASC\"]],\"k\":{\"id\":[\"L\",\"1 OR 1=1\"]}}"),
+                OrdenacaoPermitida.REMEDIO);
+        assertCursorInvalido(cursor("{\"s\":[[\"id\",\"ASC\"]],\"k\":{\"id\":[\"X\",\"1\"]}}"),
+                OrdenacaoPermitida.REMEDIO);
+    }
+
+    @Test
+    @DisplayName("Enums devem ser aceitos apenas do pacote do modelo de domínio")
+    void decodificar_Enum_DeveRestringirAoModelo() {
+        UtilCursor.Posicao posicao = UtilCursor.decodificar(
+                cursor("{\"s\":[[\"nome\",\"ASC\"],[\"id\",\"ASC\"]],"
+                        + "\"k\":{\"nome\":[\"E\",\"Via\",\"ORAL\"],\"id\":[\"L\",\"1\"]}}"),
+                Sort.unsorted(), OrdenacaoPermitida.REMEDIO);
+
+        assertThat(posicao.posicao().getKeys()).containsEntry("nome", Via.ORAL);
+
+        for (String tipo : new String[] { "Remedio", "Inexistente", "java.lang.Thread$State", "..\\/Via" }) {
+            assertCursorInvalido(cursor("{\"s\":[[\"nome\",\"ASC\"],[\"id\",\"ASC\"]],"
+                    + "\"k\":{\"nome\":[\"E\",\"" + tipo + "\",\"NEW\"],\"id\":[\"L\",\"1\"]}}"),
+                    OrdenacaoPermitida.REMEDIO);
+        }
+    }
+
+    @Test
+    @DisplayName("Chave nula não deve gerar cursor")
+    void codificar_ChaveNula_DeveLancarExcecao() {
+        Map<String, Object> chaves = new LinkedHashMap<>();
+        chaves.put("validade", null);
+        chaves.put("id", 1L);
+
+        assertThatThrownBy(() -> UtilCursor.codificar(Sort.by("validade", "id"), ScrollPosition.forward(chaves)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.projeto.spring.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import br.com.projeto.spring.domain.model.Laboratorio;
+import br.com.projeto.spring.exception.EntityInUseException;
+import br.com.projeto.spring.exception.ResourceNotFoundException;
+import br.com.projeto.spring.exception.ValidationException;
+import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
+import br.com.projeto.spring.i18n.MessageResolver;
+import br.com.projeto.spring.repository.LaboratorioRepository;
+import br.com.projeto.spring.repository.projection.RemedioEmUso;
+import jakarta.validation.Validator;
+
+class LaboratorioValidatorTest {
+
+    private static final int MAXIMO_LISTADOS = 2;
+
+    private final LaboratorioRepository repository = Mockito.mock(LaboratorioRepository.class);
+
+    private final MessageResolver messages = (chave, args) -> chave + ": " + args[0];
+
+    private final LaboratorioValidator validator =
+            new LaboratorioValidator(Mockito.mock(Validator.class), repository, messages, MAXIMO_LISTADOS);
+
+    private static Map<Long, String> nomes(Object... idsENomes) {
+        Map<Long, String> nomes = new LinkedHashMap<>();
+
+        for (int i = 0; i < idsENomes.length; i += 2) {
+            nomes.put((Long) idsENomes[i], (String) idsENomes[i + 1]);
+        }
+
+        return nomes;
+    }
+
+    private static Laboratorio laboratorio(String email) {
+        Laboratorio laboratorio = new Laboratorio();
+        laboratorio.setEmail(email);
+        return laboratorio;
+    }
+
+    @Test
+    @DisplayName("Remédios em uso devem ser truncados por laboratório, indicando quantos restam")
+    void validarExclusaoPorId_RemediosAcimaDoLimite_DeveTruncarPorLaboratorio() {
+        Map<Long, String> nomes = nomes(1L, "Lab A", 2L, "Lab B");
+
+        when(repository.buscarRemediosEmUso(nomes.keySet(), MAXIMO_LISTADOS))
+                .thenReturn(List.of(new RemedioEmUso(1L, 10L, "Dipirona", 5), new RemedioEmUso(1L, 11L, "Paracetamol", 5),
+                        new RemedioEmUso(2L, 20L, "Ibuprofeno", 1)));
+
+        assertThatThrownBy(() -> validator.validarExclusaoPorId(nomes, List.of(1L, 2L)))
+                .isInstanceOfSatisfying(EntityInUseException.class,
+                        e -> assertThat(e.getEntityRelations()).containsExactly(
+                                Map.entry("Lab A", Set.of("[10] Dipirona", "[11] Paracetamol",
+                                        ValidationMessagesKeys.LABORATORIO_EXCLUSAO_REMEDIOS_RESTANTES + ": 3")),
+                                Map.entry("Lab B", Set.of("[20] Ibuprofeno"))));
+    }
+
+    @Test
+    @DisplayName("Total igual ao limite deve listar todos os remédios sem indicar restantes")
+    void validarExclusaoPorId_TotalIgualAoLimite_NaoDeveIndicarRestantes() {
+        Map<Long, String> nomes = nomes(1L, "Lab A");
+
+        when(repository.buscarRemediosEmUso(nomes.keySet(), MAXIMO_LISTADOS)).thenReturn(
+                List.of(new RemedioEmUso(1L, 10L, "Dipirona", 2), new RemedioEmUso(1L, 11L, "Paracetamol", 2)));
+
+        assertThatThrownBy(() -> validator.validarExclusaoPorId(nomes, List.of(1L)))
+                .isInstanceOfSatisfying(EntityInUseException.class, e -> assertThat(e.getEntityRelations())
+                        .containsExactly(Map.entry("Lab A", Set.of("[10] Dipirona", "[11] Paracetamol"))));
+    }
+
+    @Test
+    @DisplayName("Laboratórios sem remédios devem poder ser excluídos")
+    void validarExclusaoPorId_SemRemedios_NaoDeveLancarExcecao() {
+        when(repository.buscarRemediosEmUso(anyCollection(), anyInt())).thenReturn(List.of());
+
+        assertThatCode(() -> validator.validarExclusaoPorId(nomes(1L, "Lab A"), List.of(1L)))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("IDs não encontrados devem ser rejeitados antes de consultar os remédios")
+    void validarExclusaoPorId_IdsNaoEncontrados_DeveLancarExcecao() {
+        assertThatThrownBy(() -> validator.validarExclusaoPorId(nomes(2L, "Lab B"), List.of(9L, 2L, 3L)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage(ValidationMessagesKeys.LABORATORIOS_NAO_ENCONTRADOS + ": 3, 9");
+
+        verify(repository, never()).buscarRemediosEmUso(anyCollection(), anyInt());
+    }
+
+    @Test
+    @DisplayName("E-mails repetidos no lote e já cadastrados devem ser informados juntos, em uma consulta")
+    void validarCadastro_EmailsDuplicados_DeveUnirLoteEBanco() {
+        when(repository.buscarEmailsExistentes(Set.of("a@lab.com", "b@lab.com", "c@lab.com")))
+                .thenReturn(Set.of("c@lab.com", "a@lab.com"));
+
+        List<Laboratorio> lote = List.of(laboratorio("c@lab.com"), laboratorio("a@lab.com"), laboratorio("b@lab.com"),
+                laboratorio("a@lab.com"));
+
+        assertThatThrownBy(() -> validator.validarCadastro(lote)).isInstanceOf(ValidationException.class)
+                .hasMessage(ValidationMessagesKeys.LABORATORIO_EMAIL_UNICO + ": a@lab.com, c@lab.com");
+
+        verify(repository).buscarEmailsExistentes(any());
+    }
+
+    @Test
+    @DisplayName("Lote com e-mails únicos e inexistentes deve ser aceito")
+    void validarCadastro_EmailsUnicos_NaoDeveLancarExcecao() {
+        when(repository.buscarEmailsExistentes(anyCollection())).thenReturn(Set.of());
+
+        assertThatCode(() -> validator.validarCadastro(List.of(laboratorio("a@lab.com"), laboratorio("b@lab.com"))))
+                .doesNotThrowAnyException();
+    }
+}
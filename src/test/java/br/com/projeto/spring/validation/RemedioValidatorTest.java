@@ -0,0 +1,38 @@
+package br.com.projeto.spring.validation;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import br.com.projeto.spring.exception.ResourceNotFoundException;
+import br.com.projeto.spring.exception.messages.ValidationMessagesKeys;
+import br.com.projeto.spring.i18n.MessageResolver;
+import jakarta.validation.Validator;
+
+class RemedioValidatorTest {
+
+    private final MessageResolver messages = (chave, args) -> chave + ": " + args[0];
+
+    private final RemedioValidator validator = new RemedioValidator(Mockito.mock(Validator.class), messages);
+
+    @Test
+    @DisplayName("Laboratórios ausentes devem ser informados sem repetição e em ordem crescente")
+    void validarLaboratoriosEncontrados_IdsAusentes_DeveListarOrdenadosSemRepeticao() {
+        assertThatThrownBy(() -> validator.validarLaboratoriosEncontrados(List.of(30L, 2L, 30L, 5L, 10L), Set.of(5L)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage(ValidationMessagesKeys.LABORATORIOS_NAO_ENCONTRADOS + ": 2, 10, 30");
+    }
+
+    @Test
+    @DisplayName("Todos os laboratórios encontrados não devem gerar erro")
+    void validarLaboratoriosEncontrados_TodosEncontrados_NaoDeveLancarExcecao() {
+        assertThatCode(() -> validator.validarLaboratoriosEncontrados(List.of(1L, 2L), Set.of(1L, 2L, 3L)))
+                .doesNotThrowAnyException();
+    }
+}